@@ -1,3 +1,6 @@
+DROP TABLE `tag_sequences`;
+DROP TABLE `complaints_archive`;
+DROP TABLE `shortcuts_archive`;
 DROP TABLE `complaints`;
 DROP TABLE `shortcuts`;
 DROP TABLE `user_roles`;
@@ -19,7 +22,9 @@ CREATE TABLE `users`
     `identity_provider`    varchar(255) DEFAULT NULL,
     `identity_provider_id` varchar(255) DEFAULT NULL,
     PRIMARY KEY (`id`),
-    UNIQUE KEY `UK6dotkott2kjsp8vw4d0m25fb7` (`email`)
+    UNIQUE KEY `UK6dotkott2kjsp8vw4d0m25fb7` (`email`),
+    KEY                    `idx_users_email_deleted` (`email`, `deleted`),
+    KEY                    `idx_users_deleted_created_at` (`deleted`, `created_at`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
 CREATE TABLE `roles`
@@ -60,6 +65,9 @@ CREATE TABLE `shortcuts`
     UNIQUE KEY `UK_axwnm57aj9yf8c8nrif299nup` (`tag`),
     UNIQUE KEY `UKaxwnm57aj9yf8c8nrif299nup` (`tag`),
     KEY                `FK7xm061c3vtpp2jm4e1vsxvrnr` (`created_by`),
+    KEY                `idx_shortcuts_created_by_deleted_created_at` (`created_by`, `deleted`, `created_at`),
+    KEY                `idx_shortcuts_deleted_created_at` (`deleted`, `created_at`),
+    KEY                `idx_shortcuts_deleted_deleted_at` (`deleted`, `deleted_at`),
     CONSTRAINT `FK7xm061c3vtpp2jm4e1vsxvrnr` FOREIGN KEY (`created_by`) REFERENCES `users` (`id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
@@ -76,5 +84,50 @@ CREATE TABLE `complaints`
     `shortcut`         varchar(255)  DEFAULT NULL,
     PRIMARY KEY (`id`),
     KEY                `FK14hq5wtrjihneahfpnk1dls9x` (`shortcut`),
+    KEY                `idx_complaints_shortcut_deleted` (`shortcut`, `deleted`),
+    KEY                `idx_complaints_deleted_created_at` (`deleted`, `created_at`),
+    KEY                `idx_complaints_deleted_deleted_at` (`deleted`, `deleted_at`),
     CONSTRAINT `FK14hq5wtrjihneahfpnk1dls9x` FOREIGN KEY (`shortcut`) REFERENCES `shortcuts` (`id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `shortcuts_archive`
+(
+    `id`               varchar(255)  NOT NULL,
+    `created_at`       datetime(6) NOT NULL,
+    `deleted`          bit(1)        NOT NULL,
+    `last_modified_at` datetime(6) NOT NULL,
+    `version`          bigint        NOT NULL,
+    `tag`              varchar(255)  NOT NULL,
+    `url`              varchar(2000) NOT NULL,
+    `created_by`       varchar(255) DEFAULT NULL,
+    `deleted_at`       datetime(6) DEFAULT NULL,
+    `archived_at`      datetime(6) NOT NULL,
+    PRIMARY KEY (`id`),
+    KEY                `idx_shortcuts_archive_tag` (`tag`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `complaints_archive`
+(
+    `id`               varchar(255) NOT NULL,
+    `created_at`       datetime(6) NOT NULL,
+    `deleted`          bit(1)       NOT NULL,
+    `deleted_at`       datetime(6) DEFAULT NULL,
+    `last_modified_at` datetime(6) NOT NULL,
+    `version`          bigint       NOT NULL,
+    `comment`          varchar(2000) DEFAULT NULL,
+    `reason`           varchar(255) NOT NULL,
+    `shortcut`         varchar(255)  DEFAULT NULL,
+    `archived_at`      datetime(6) NOT NULL,
+    PRIMARY KEY (`id`),
+    KEY                `idx_complaints_archive_shortcut` (`shortcut`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `tag_sequences`
+(
+    `name`         varchar(255) NOT NULL,
+    `leased_until` bigint       NOT NULL,
+    PRIMARY KEY (`name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO `tag_sequences` (`name`, `leased_until`)
+VALUES ('shortcuts', 0);
@@ -0,0 +1,43 @@
+-- Adds the archive tables used by the soft-delete archival job to an existing schema. New schemas
+-- created by docs/scripts/schema.sql or by Hibernate already contain these tables. When identifiers
+-- are stored as binary, the identifier columns must be declared as binary(16) instead.
+
+ALTER TABLE `shortcuts`
+    ADD INDEX `idx_shortcuts_deleted_deleted_at` (`deleted`, `deleted_at`),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE `complaints`
+    ADD INDEX `idx_complaints_deleted_deleted_at` (`deleted`, `deleted_at`),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+CREATE TABLE `shortcuts_archive`
+(
+    `id`               varchar(255)  NOT NULL,
+    `created_at`       datetime(6) NOT NULL,
+    `deleted`          bit(1)        NOT NULL,
+    `last_modified_at` datetime(6) NOT NULL,
+    `version`          bigint        NOT NULL,
+    `tag`              varchar(255)  NOT NULL,
+    `url`              varchar(2000) NOT NULL,
+    `created_by`       varchar(255) DEFAULT NULL,
+    `deleted_at`       datetime(6) DEFAULT NULL,
+    `archived_at`      datetime(6) NOT NULL,
+    PRIMARY KEY (`id`),
+    KEY                `idx_shortcuts_archive_tag` (`tag`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `complaints_archive`
+(
+    `id`               varchar(255) NOT NULL,
+    `created_at`       datetime(6) NOT NULL,
+    `deleted`          bit(1)       NOT NULL,
+    `deleted_at`       datetime(6) DEFAULT NULL,
+    `last_modified_at` datetime(6) NOT NULL,
+    `version`          bigint       NOT NULL,
+    `comment`          varchar(2000) DEFAULT NULL,
+    `reason`           varchar(255) NOT NULL,
+    `shortcut`         varchar(255)  DEFAULT NULL,
+    `archived_at`      datetime(6) NOT NULL,
+    PRIMARY KEY (`id`),
+    KEY                `idx_complaints_archive_shortcut` (`shortcut`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
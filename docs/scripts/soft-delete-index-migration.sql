@@ -0,0 +1,21 @@
+-- Adds the composite indexes covering the soft-delete flag to an existing schema. New schemas created
+-- by docs/scripts/schema.sql or by Hibernate already contain these indexes. MySQL has no partial
+-- indexes, hence the deleted column is part of each index instead. The statements are online
+-- operations in InnoDB and can be applied while the application is running. Lookups of shortcuts by
+-- tag are served by the unique index on the tag, listings by owner and the clean-up of anonymous
+-- shortcuts by the index starting with created_by, and pages of all shortcuts by deleted, created_at.
+
+ALTER TABLE `users`
+    ADD INDEX `idx_users_email_deleted` (`email`, `deleted`),
+    ADD INDEX `idx_users_deleted_created_at` (`deleted`, `created_at`),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE `shortcuts`
+    ADD INDEX `idx_shortcuts_created_by_deleted_created_at` (`created_by`, `deleted`, `created_at`),
+    ADD INDEX `idx_shortcuts_deleted_created_at` (`deleted`, `created_at`),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE `complaints`
+    ADD INDEX `idx_complaints_shortcut_deleted` (`shortcut`, `deleted`),
+    ADD INDEX `idx_complaints_deleted_created_at` (`deleted`, `created_at`),
+    ALGORITHM=INPLACE, LOCK=NONE;
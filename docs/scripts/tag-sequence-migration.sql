@@ -0,0 +1,14 @@
+-- Adds the table from which the range tag strategy leases its numbers to an existing schema. New schemas
+-- created by docs/scripts/schema.sql or by Hibernate already contain this table. If the range strategy was
+-- used before, the sequence was kept in Redis: replace 0 by the result of `GET ShortcutTagSequence`, otherwise
+-- already issued tags are allocated again.
+
+CREATE TABLE `tag_sequences`
+(
+    `name`         varchar(255) NOT NULL,
+    `leased_until` bigint       NOT NULL,
+    PRIMARY KEY (`name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO `tag_sequences` (`name`, `leased_until`)
+VALUES ('shortcuts', 0);
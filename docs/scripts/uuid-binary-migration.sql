@@ -0,0 +1,38 @@
+-- Migrates all identifiers from character sequences to binary(16), as required by
+-- attoly.persistence.uuid-storage=binary. Requires MySQL 8.0 or higher. Stop all application
+-- instances and create a backup before running the migration.
+
+ALTER TABLE `user_roles` DROP FOREIGN KEY `FKh8ciramu9cc9q3qcqiv4ue8a6`;
+ALTER TABLE `user_roles` DROP FOREIGN KEY `FKhfh9dx7w3ubf1co1vdev94g3f`;
+ALTER TABLE `shortcuts` DROP FOREIGN KEY `FK7xm061c3vtpp2jm4e1vsxvrnr`;
+ALTER TABLE `complaints` DROP FOREIGN KEY `FK14hq5wtrjihneahfpnk1dls9x`;
+
+-- Convert to varbinary first, so that the textual identifiers can be replaced in place.
+ALTER TABLE `users` MODIFY `id` varbinary(36) NOT NULL;
+ALTER TABLE `roles` MODIFY `id` varbinary(36) NOT NULL;
+ALTER TABLE `user_roles` MODIFY `user_id` varbinary(36) NOT NULL, MODIFY `role_id` varbinary(36) NOT NULL;
+ALTER TABLE `shortcuts` MODIFY `id` varbinary(36) NOT NULL, MODIFY `created_by` varbinary(36) DEFAULT NULL;
+ALTER TABLE `complaints` MODIFY `id` varbinary(36) NOT NULL, MODIFY `shortcut` varbinary(36) DEFAULT NULL;
+ALTER TABLE `shortcuts_archive` MODIFY `id` varbinary(36) NOT NULL, MODIFY `created_by` varbinary(36) DEFAULT NULL;
+ALTER TABLE `complaints_archive` MODIFY `id` varbinary(36) NOT NULL, MODIFY `shortcut` varbinary(36) DEFAULT NULL;
+
+UPDATE `users` SET `id` = UUID_TO_BIN(`id`);
+UPDATE `roles` SET `id` = UUID_TO_BIN(`id`);
+UPDATE `user_roles` SET `user_id` = UUID_TO_BIN(`user_id`), `role_id` = UUID_TO_BIN(`role_id`);
+UPDATE `shortcuts` SET `id` = UUID_TO_BIN(`id`), `created_by` = UUID_TO_BIN(`created_by`);
+UPDATE `complaints` SET `id` = UUID_TO_BIN(`id`), `shortcut` = UUID_TO_BIN(`shortcut`);
+UPDATE `shortcuts_archive` SET `id` = UUID_TO_BIN(`id`), `created_by` = UUID_TO_BIN(`created_by`);
+UPDATE `complaints_archive` SET `id` = UUID_TO_BIN(`id`), `shortcut` = UUID_TO_BIN(`shortcut`);
+
+ALTER TABLE `users` MODIFY `id` binary(16) NOT NULL;
+ALTER TABLE `roles` MODIFY `id` binary(16) NOT NULL;
+ALTER TABLE `user_roles` MODIFY `user_id` binary(16) NOT NULL, MODIFY `role_id` binary(16) NOT NULL;
+ALTER TABLE `shortcuts` MODIFY `id` binary(16) NOT NULL, MODIFY `created_by` binary(16) DEFAULT NULL;
+ALTER TABLE `complaints` MODIFY `id` binary(16) NOT NULL, MODIFY `shortcut` binary(16) DEFAULT NULL;
+ALTER TABLE `shortcuts_archive` MODIFY `id` binary(16) NOT NULL, MODIFY `created_by` binary(16) DEFAULT NULL;
+ALTER TABLE `complaints_archive` MODIFY `id` binary(16) NOT NULL, MODIFY `shortcut` binary(16) DEFAULT NULL;
+
+ALTER TABLE `user_roles` ADD CONSTRAINT `FKh8ciramu9cc9q3qcqiv4ue8a6` FOREIGN KEY (`role_id`) REFERENCES `roles` (`id`);
+ALTER TABLE `user_roles` ADD CONSTRAINT `FKhfh9dx7w3ubf1co1vdev94g3f` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`);
+ALTER TABLE `shortcuts` ADD CONSTRAINT `FK7xm061c3vtpp2jm4e1vsxvrnr` FOREIGN KEY (`created_by`) REFERENCES `users` (`id`);
+ALTER TABLE `complaints` ADD CONSTRAINT `FK14hq5wtrjihneahfpnk1dls9x` FOREIGN KEY (`shortcut`) REFERENCES `shortcuts` (`id`);
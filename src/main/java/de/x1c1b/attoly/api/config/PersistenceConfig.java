@@ -1,6 +1,11 @@
 package de.x1c1b.attoly.api.config;
 
+import de.x1c1b.attoly.api.repository.id.ConfigurableUUIDGenerator;
+import de.x1c1b.attoly.api.repository.type.UUIDTypeContributor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
@@ -8,6 +13,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -26,6 +32,15 @@ public class PersistenceConfig {
         return new JedisConnectionFactory(redisStandaloneConfiguration);
     }
 
+    @Bean
+    HibernatePropertiesCustomizer uuidCustomizer(@Value("${attoly.persistence.uuid-storage:char}") String uuidStorage,
+                                                 @Value("${attoly.persistence.uuid-generator:time-ordered}") String uuidGenerator) {
+        return properties -> {
+            properties.put(UUIDTypeContributor.UUID_STORAGE, uuidStorage);
+            properties.put(ConfigurableUUIDGenerator.UUID_GENERATOR, uuidGenerator);
+        };
+    }
+
     @Bean
     RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
         final RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
@@ -33,4 +48,12 @@ public class PersistenceConfig {
         redisTemplate.setDefaultSerializer(new StringRedisSerializer());
         return redisTemplate;
     }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "attoly.cache.shortcut.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+    RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        final RedisMessageListenerContainer redisMessageListenerContainer = new RedisMessageListenerContainer();
+        redisMessageListenerContainer.setConnectionFactory(redisConnectionFactory);
+        return redisMessageListenerContainer;
+    }
 }
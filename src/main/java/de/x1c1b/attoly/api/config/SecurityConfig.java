@@ -1,15 +1,18 @@
 package de.x1c1b.attoly.api.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import de.x1c1b.attoly.api.security.PrincipalService;
 import de.x1c1b.attoly.api.security.ajax.AjaxAuthenticationProcessingFilterConfigurer;
 import de.x1c1b.attoly.api.security.oauth2.HttpCookieOAuth2AuthorizationRequestRepository;
 import de.x1c1b.attoly.api.security.token.AccessToken;
 import de.x1c1b.attoly.api.security.token.RefreshToken;
+import de.x1c1b.attoly.api.security.token.TokenProperties;
 import de.x1c1b.attoly.api.security.token.TokenProvider;
 import de.x1c1b.attoly.api.security.token.auth.AccessTokenAuthenticationProvider;
 import de.x1c1b.attoly.api.security.token.auth.RefreshTokenAuthenticationProvider;
 import de.x1c1b.attoly.api.security.token.filter.AccessTokenAuthenticationFilterConfigurer;
 import de.x1c1b.attoly.api.security.token.filter.RefreshTokenAuthenticationProcessingFilterConfigurer;
+import de.x1c1b.attoly.api.security.token.jwt.AccessTokenRevocationStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,6 +24,7 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -67,6 +71,9 @@ public class SecurityConfig {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private PrincipalService principalService;
+
     @Autowired
     private DefaultOAuth2UserService oAuth2UserService;
 
@@ -76,6 +83,13 @@ public class SecurityConfig {
     @Autowired
     private TokenProvider<RefreshToken> refreshTokenProvider;
 
+    // Only registered in stateless mode
+    @Autowired(required = false)
+    private AccessTokenRevocationStore accessTokenRevocationStore;
+
+    @Autowired
+    private TokenProperties tokenProperties;
+
 
     @Bean
     PasswordEncoder bCryptPasswordEncoder() {
@@ -92,6 +106,12 @@ public class SecurityConfig {
         return new HttpCookieOAuth2AuthorizationRequestRepository();
     }
 
+    @Bean
+    public WebSecurityCustomizer webSecurityCustomizer() {
+        // Redirects are public and stateless, hence they don't need to pass the security filter chain at all
+        return web -> web.ignoring().antMatchers(HttpMethod.GET, "/r/*");
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
 
@@ -163,8 +183,10 @@ public class SecurityConfig {
         daoAuthenticationProvider.setPasswordEncoder(bCryptPasswordEncoder());
 
         AccessTokenAuthenticationProvider accessTokenAuthenticationProvider = new AccessTokenAuthenticationProvider();
-        accessTokenAuthenticationProvider.setUserDetailsService(userDetailsService);
+        accessTokenAuthenticationProvider.setUserDetailsService(principalService::loadCachedUserByEmail);
         accessTokenAuthenticationProvider.setAccessTokenProvider(accessTokenProvider);
+        accessTokenAuthenticationProvider.setAccessTokenRevocationStore(accessTokenRevocationStore);
+        accessTokenAuthenticationProvider.setStateless(tokenProperties.getAccess().isStateless());
 
         RefreshTokenAuthenticationProvider refreshTokenAuthenticationProvider = new RefreshTokenAuthenticationProvider();
         refreshTokenAuthenticationProvider.setUserDetailsService(userDetailsService);
@@ -185,6 +207,8 @@ public class SecurityConfig {
                 .permitAll()
                 .antMatchers(HttpMethod.GET, "/site/**")
                 .permitAll()
+                .antMatchers(HttpMethod.GET, "/.well-known/jwks.json")
+                .permitAll()
                 .antMatchers(HttpMethod.POST, "/api/v1/users", "/api/v1/user/verify", "/api/v1/user/reset")
                 .permitAll()
                 .antMatchers(HttpMethod.GET, "/api/v1/user/verify", "/api/v1/user/reset")
@@ -5,8 +5,11 @@ import de.x1c1b.attoly.api.domain.model.Complaint;
 import de.x1c1b.attoly.api.domain.payload.ComplaintCreationPayload;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +30,17 @@ public interface ComplaintService {
      */
     Page<Complaint> findAll(Pageable pageable);
 
+    /**
+     * Loads available reports ordered from newest to oldest, starting after a given position. In
+     * contrast to {@link #findAll(Pageable)}, no total count is determined.
+     *
+     * @param createdAt The creation date of the last known entry or <code>null</code> for the first slice.
+     * @param id        The identifier of the last known entry or <code>null</code> for the first slice.
+     * @param size      The maximum number of reports to load.
+     * @return The requested slice of reports.
+     */
+    Slice<Complaint> findAllAfter(Instant createdAt, UUID id, int size);
+
     /**
      * Loads all available reports in individual pages.
      *
@@ -74,4 +88,13 @@ public interface ComplaintService {
      * @throws EntityNotFoundException Thrown if the report cannot be found.
      */
     void deleteById(UUID id) throws EntityNotFoundException;
+
+    /**
+     * Moves a batch of reports that were soft-deleted before a certain point in time into the archive.
+     *
+     * @param date  The offset date.
+     * @param limit The maximum number of reports to move.
+     * @return The number of moved reports.
+     */
+    int archiveAllDeletedBefore(OffsetDateTime date, int limit);
 }
@@ -2,14 +2,19 @@ package de.x1c1b.attoly.api.domain;
 
 import de.x1c1b.attoly.api.domain.exception.EntityNotFoundException;
 import de.x1c1b.attoly.api.domain.model.Shortcut;
+import de.x1c1b.attoly.api.domain.model.ShortcutView;
 import de.x1c1b.attoly.api.domain.payload.ShortcutCreationPayload;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Interface for accessing shortcuts and related entities and operations.
@@ -31,6 +36,17 @@ public interface ShortcutService {
      */
     Page<Shortcut> findAll(Pageable pageable);
 
+    /**
+     * Loads available shortcuts ordered from newest to oldest, starting after a given position. In
+     * contrast to {@link #findAll(Pageable)}, no total count is determined.
+     *
+     * @param createdAt The creation date of the last known entry or <code>null</code> for the first slice.
+     * @param id        The identifier of the last known entry or <code>null</code> for the first slice.
+     * @param size      The maximum number of shortcuts to load.
+     * @return The requested slice of shortcuts.
+     */
+    Slice<Shortcut> findAllAfter(Instant createdAt, UUID id, int size);
+
     /**
      * Loads all available shortcuts in individual pages.
      *
@@ -58,6 +74,25 @@ public interface ShortcutService {
      */
     Page<Shortcut> findAllByOwnership(String email, Pageable pageable);
 
+    /**
+     * Find views of all shortcuts created of a specific user. In contrast to
+     * {@link #findAllByOwnership(String, Pageable)}, no entities are loaded.
+     *
+     * @param email    The users's unique email.
+     * @param pageable The pagination settings.
+     * @return The requested page of shortcut views.
+     */
+    Page<ShortcutView> findAllViewsByOwnership(String email, Pageable pageable);
+
+    /**
+     * Passes views of all shortcuts created by a specific user one by one to the consumer, without
+     * loading them into memory at once.
+     *
+     * @param email    The users's unique email.
+     * @param consumer Processes the shortcuts, e.g. writes them to a stream.
+     */
+    void exportAllByOwnership(String email, Consumer<ShortcutView> consumer);
+
     /**
      * Loads a shortcut by its identifier.
      *
@@ -76,6 +111,25 @@ public interface ShortcutService {
      */
     Shortcut findByTag(String tag) throws EntityNotFoundException;
 
+    /**
+     * Loads a read-only view of a shortcut by its tag, without loading the entity.
+     *
+     * @param tag The shortcut's unique tag.
+     * @return The loaded view.
+     * @throws EntityNotFoundException Thrown if the shortcut cannot be found.
+     */
+    ShortcutView findViewByTag(String tag) throws EntityNotFoundException;
+
+    /**
+     * Resolves the URL of a shortcut by its tag. In contrast to {@link #findByTag(String)}, only the
+     * target URL is loaded, which makes this the preferred way for plain redirects.
+     *
+     * @param tag The shortcut's unique tag.
+     * @return The URL the shortcut points to.
+     * @throws EntityNotFoundException Thrown if the shortcut cannot be found.
+     */
+    String findUrlByTag(String tag) throws EntityNotFoundException;
+
     /**
      * Creates a new shortcut.
      *
@@ -84,6 +138,15 @@ public interface ShortcutService {
      */
     Shortcut create(ShortcutCreationPayload payload);
 
+    /**
+     * Creates multiple shortcuts within a single transaction. The shortcuts are inserted in batches and
+     * returned detached, so that repeated calls, e.g. while importing, don't accumulate them in memory.
+     *
+     * @param payloads The payload data from which the shortcuts are created.
+     * @return The newly created shortcuts in the order of the payloads.
+     */
+    List<Shortcut> createAll(List<ShortcutCreationPayload> payloads);
+
     /**
      * Deletes a shortcut using the identifier.
      *
@@ -101,9 +164,30 @@ public interface ShortcutService {
     void deleteByTag(String tag) throws EntityNotFoundException;
 
     /**
-     * Deletes all expired and anonymously created shortcuts.
+     * Deletes multiple shortcuts using their tags with set-based statements. Unknown or already
+     * deleted tags are skipped.
+     *
+     * @param tags The shortcuts' unique tags.
+     * @return The number of deleted shortcuts.
+     */
+    int deleteAllByTag(Collection<String> tags);
+
+    /**
+     * Deletes a chunk of the oldest expired and anonymously created shortcuts. Deleted shortcuts are no
+     * longer considered, hence repeated calls continue where the previous one stopped.
+     *
+     * @param date  The offset date.
+     * @param limit The maximum number of shortcuts to delete.
+     * @return The number of deleted shortcuts.
+     */
+    int deleteAllAnonymousCreatedBefore(OffsetDateTime date, int limit);
+
+    /**
+     * Moves a batch of shortcuts that were soft-deleted before a certain point in time into the archive.
      *
-     * @param date The offset date.
+     * @param date  The offset date.
+     * @param limit The maximum number of shortcuts to move.
+     * @return The number of moved shortcuts.
      */
-    void deleteAllAnonymousCreatedBefore(OffsetDateTime date);
+    int archiveAllDeletedBefore(OffsetDateTime date, int limit);
 }
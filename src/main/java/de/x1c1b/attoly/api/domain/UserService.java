@@ -7,8 +7,10 @@ import de.x1c1b.attoly.api.domain.payload.UserCreationPayload;
 import de.x1c1b.attoly.api.domain.payload.UserUpdatePayload;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,6 +34,17 @@ public interface UserService {
      */
     Page<User> findAll(Pageable pageable);
 
+    /**
+     * Loads available users ordered from newest to oldest, starting after a given position. In
+     * contrast to {@link #findAll(Pageable)}, no total count is determined.
+     *
+     * @param createdAt The creation date of the last known entry or <code>null</code> for the first slice.
+     * @param id        The identifier of the last known entry or <code>null</code> for the first slice.
+     * @param size      The maximum number of users to load.
+     * @return The requested slice of users.
+     */
+    Slice<User> findAllAfter(Instant createdAt, UUID id, int size);
+
     /**
      * Loads all available users in individual pages.
      *
@@ -0,0 +1,325 @@
+package de.x1c1b.attoly.api.domain.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Two-level cache for resolving shortcut tags into their URLs. The first level is a bounded in-memory
+ * cache per instance, the second level is shared by all instances via Redis. Unknown tags are only
+ * cached in memory (negative caching) and expire considerably faster than resolved ones. Evictions
+ * are propagated to the in-memory caches of the other instances via the {@link ShortcutInvalidationBus}.
+ * Evicted tags are replaced by a short-lived tombstone in the shared cache and values are only added
+ * if no entry exists, so that a lookup which loaded a tag before its deletion cannot cache it again.
+ */
+@Component
+public class ShortcutCache {
+
+    public static final String CACHE_NAME = "shortcuts";
+
+    private static final String KEY_PREFIX = "ShortcutUrl:";
+    private static final String TOMBSTONE = "!evicted";
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(ShortcutCache.class);
+
+    private final ShortcutCacheProperties properties;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Optional<ShortcutInvalidationBus> invalidationBus;
+    private final Cache<String, Optional<String>> cache;
+    private final Counter distributedHits;
+    private final Counter distributedMisses;
+    private final Counter distributedErrors;
+
+    @Autowired
+    public ShortcutCache(ShortcutCacheProperties properties,
+                         RedisTemplate<String, Object> redisTemplate,
+                         Optional<ShortcutInvalidationBus> invalidationBus,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.invalidationBus = invalidationBus;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new ShortcutExpiry(properties.getExpiresIn(), properties.getNegativeExpiresIn()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        this.distributedHits = meterRegistry.counter("cache.distributed.gets", "cache", CACHE_NAME, "result", "hit");
+        this.distributedMisses = meterRegistry.counter("cache.distributed.gets", "cache", CACHE_NAME, "result", "miss");
+        this.distributedErrors = meterRegistry.counter("cache.distributed.gets", "cache", CACHE_NAME, "result", "error");
+
+        invalidationBus.ifPresent(bus -> bus.subscribe(this::onInvalidation));
+    }
+
+    /**
+     * Resolves the URL of a tag from the cache. If the tag isn't cached in memory, the shared cache is
+     * consulted before it is loaded using the loader. Concurrent lookups of the same tag wait for a
+     * single load.
+     *
+     * @param tag    The shortcut's unique tag.
+     * @param loader Loads the URL if the tag isn't cached.
+     * @return The URL or an empty optional if the shortcut doesn't exist.
+     */
+    public Optional<String> get(String tag, Function<String, Optional<String>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(tag);
+        }
+
+        return cache.get(tag, key -> load(key, loader));
+    }
+
+    /**
+     * Caches the URL of a newly created shortcut. If called within a transaction, the URL is cached
+     * after the commit, so that no shortcut is cached whose creation is rolled back.
+     *
+     * @param tag The shortcut's unique tag.
+     * @param url The URL the shortcut points to.
+     */
+    public void put(String tag, String url) {
+        if (properties.isEnabled()) {
+            afterCommitOrNow(() -> {
+                cache.put(tag, Optional.of(url));
+                putDistributed(tag, url);
+            });
+        }
+    }
+
+    /**
+     * Removes a tag from the cache. If called within a transaction, the tag is removed again after
+     * the commit, so that no stale value loaded in the meantime survives. Other instances are notified
+     * once the modification is visible to them.
+     *
+     * @param tag The shortcut's unique tag.
+     */
+    public void evict(String tag) {
+        evictNow(tag);
+        afterCommit(() -> evictNow(tag));
+        publish(bus -> bus.publish(tag));
+    }
+
+    /**
+     * Removes multiple tags from the cache at once, e.g. after modifying a chunk of shortcuts. In
+     * contrast to {@link #evictAll()} all other tags stay cached.
+     *
+     * @param tags The shortcuts' unique tags.
+     */
+    public void evictAll(Collection<String> tags) {
+        List<String> copy = List.copyOf(tags);
+
+        evictAllNow(copy);
+        afterCommit(() -> evictAllNow(copy));
+        publish(bus -> bus.publish(copy));
+    }
+
+    /**
+     * Removes all tags from the cache, e.g. after bulk modifications.
+     */
+    public void evictAll() {
+        evictAllNow();
+        afterCommit(this::evictAllNow);
+        publish(ShortcutInvalidationBus::publishAll);
+    }
+
+    private void onInvalidation(ShortcutInvalidationMessage message) {
+        if (Objects.isNull(message.getTags())) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateAll(message.getTags());
+        }
+    }
+
+    private Optional<String> load(String tag, Function<String, Optional<String>> loader) {
+        Optional<String> url = getDistributed(tag);
+
+        if (url.isPresent()) {
+            return url;
+        }
+
+        url = loader.apply(tag);
+        url.ifPresent(value -> putDistributed(tag, value));
+
+        return url;
+    }
+
+    private Optional<String> getDistributed(String tag) {
+        if (!properties.getDistributed().isEnabled()) {
+            return Optional.empty();
+        }
+
+        try {
+            Optional<String> url = Optional.ofNullable((String) redisTemplate.opsForValue().get(KEY_PREFIX + tag))
+                    .filter(value -> !TOMBSTONE.equals(value));
+            (url.isPresent() ? distributedHits : distributedMisses).increment();
+
+            return url;
+        } catch (DataAccessException exc) {
+            logger.warn("Shared shortcut cache is unavailable, falling back to database", exc);
+            distributedErrors.increment();
+
+            return Optional.empty();
+        }
+    }
+
+    private void putDistributed(String tag, String url) {
+        if (!properties.getDistributed().isEnabled()) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + tag, url,
+                    properties.getDistributed().getExpiresIn(), TimeUnit.MILLISECONDS);
+        } catch (DataAccessException exc) {
+            logger.warn("Shared shortcut cache is unavailable, skipping population", exc);
+        }
+    }
+
+    private void evictNow(String tag) {
+        cache.invalidate(tag);
+
+        if (properties.getDistributed().isEnabled()) {
+            try {
+                redisTemplate.opsForValue().set(KEY_PREFIX + tag, TOMBSTONE,
+                        properties.getDistributed().getTombstoneExpiresIn(), TimeUnit.MILLISECONDS);
+            } catch (DataAccessException exc) {
+                logger.error("Failed to evict tag '{}' from shared shortcut cache", tag, exc);
+            }
+        }
+    }
+
+    private void evictAllNow(Collection<String> tags) {
+        cache.invalidateAll(tags);
+
+        if (properties.getDistributed().isEnabled()) {
+            try {
+                redisTemplate.executePipelined((RedisCallback<Void>) connection -> {
+                    tags.forEach(tag -> connection.stringCommands().set(
+                            (KEY_PREFIX + tag).getBytes(StandardCharsets.UTF_8),
+                            TOMBSTONE.getBytes(StandardCharsets.UTF_8),
+                            Expiration.milliseconds(properties.getDistributed().getTombstoneExpiresIn()),
+                            RedisStringCommands.SetOption.upsert()));
+                    return null;
+                });
+            } catch (DataAccessException exc) {
+                logger.error("Failed to evict {} tags from shared shortcut cache", tags.size(), exc);
+            }
+        }
+    }
+
+    private void evictAllNow() {
+        cache.invalidateAll();
+
+        if (properties.getDistributed().isEnabled()) {
+            try {
+                redisTemplate.execute((RedisCallback<Void>) this::deleteAllDistributed);
+            } catch (DataAccessException exc) {
+                logger.error("Failed to clear shared shortcut cache", exc);
+            }
+        }
+    }
+
+    private Void deleteAllDistributed(RedisConnection connection) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(KEY_PREFIX + "*")
+                .count(SCAN_BATCH_SIZE)
+                .build();
+
+        try (Cursor<byte[]> cursor = connection.scan(options)) {
+            List<byte[]> keys = new ArrayList<>(SCAN_BATCH_SIZE);
+
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+
+                if (keys.size() >= SCAN_BATCH_SIZE) {
+                    connection.del(keys.toArray(new byte[0][]));
+                    keys.clear();
+                }
+            }
+
+            if (!keys.isEmpty()) {
+                connection.del(keys.toArray(new byte[0][]));
+            }
+        }
+
+        return null;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private void afterCommitOrNow(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(action);
+        } else {
+            action.run();
+        }
+    }
+
+    private void publish(Consumer<ShortcutInvalidationBus> publication) {
+        invalidationBus.ifPresent(bus -> afterCommitOrNow(() -> publication.accept(bus)));
+    }
+
+    private static class ShortcutExpiry implements Expiry<String, Optional<String>> {
+
+        private final long expiresIn;
+        private final long negativeExpiresIn;
+
+        ShortcutExpiry(long expiresIn, long negativeExpiresIn) {
+            this.expiresIn = TimeUnit.MILLISECONDS.toNanos(expiresIn);
+            this.negativeExpiresIn = TimeUnit.MILLISECONDS.toNanos(negativeExpiresIn);
+        }
+
+        @Override
+        public long expireAfterCreate(String tag, Optional<String> url, long currentTime) {
+            return url.isPresent() ? expiresIn : negativeExpiresIn;
+        }
+
+        @Override
+        public long expireAfterUpdate(String tag, Optional<String> url, long currentTime, long currentDuration) {
+            return expireAfterCreate(tag, url, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tag, Optional<String> url, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
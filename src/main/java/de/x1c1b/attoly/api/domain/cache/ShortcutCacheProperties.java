@@ -0,0 +1,64 @@
+package de.x1c1b.attoly.api.domain.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "attoly.cache.shortcut")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ShortcutCacheProperties {
+
+    @Builder.Default
+    private boolean enabled = true;
+
+    @Builder.Default
+    private long maximumSize = 100000L;
+
+    @Builder.Default
+    private long expiresIn = 600000L; // 10 minutes
+
+    @Builder.Default
+    private long negativeExpiresIn = 30000L; // 30 seconds
+
+    @Builder.Default
+    private DistributedCacheProperties distributed = new DistributedCacheProperties();
+
+    @Builder.Default
+    private InvalidationProperties invalidation = new InvalidationProperties();
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class DistributedCacheProperties {
+
+        @Builder.Default
+        private boolean enabled = true;
+
+        @Builder.Default
+        private long expiresIn = 3600000L; // 1 hour
+
+        @Builder.Default
+        private long tombstoneExpiresIn = 60000L; // 1 minute
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class InvalidationProperties {
+
+        @Builder.Default
+        private boolean enabled = true;
+
+        @Builder.Default
+        private String channel = "ShortcutInvalidation";
+    }
+}
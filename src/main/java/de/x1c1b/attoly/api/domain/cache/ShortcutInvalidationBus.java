@@ -0,0 +1,138 @@
+package de.x1c1b.attoly.api.domain.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Propagates cache invalidations to all instances via Redis pub/sub, so that deleted shortcuts vanish
+ * from every in-memory cache instantly instead of after their expiration. Messages published by an
+ * instance itself are not delivered to its own subscribers.
+ */
+@Component
+@ConditionalOnProperty(prefix = "attoly.cache.shortcut.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ShortcutInvalidationBus implements MessageListener {
+
+    private final Logger logger = LoggerFactory.getLogger(ShortcutInvalidationBus.class);
+
+    private final String origin = UUID.randomUUID().toString();
+    private final String channel;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Jackson2JsonRedisSerializer<ShortcutInvalidationMessage> serializer;
+    private final List<Consumer<ShortcutInvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+    private final Counter published;
+    private final Counter failed;
+    private final Timer lag;
+
+    @Autowired
+    public ShortcutInvalidationBus(ShortcutCacheProperties properties,
+                                   RedisTemplate<String, Object> redisTemplate,
+                                   RedisMessageListenerContainer redisMessageListenerContainer,
+                                   MeterRegistry meterRegistry) {
+        this.channel = properties.getInvalidation().getChannel();
+        this.redisTemplate = redisTemplate;
+        this.serializer = new Jackson2JsonRedisSerializer<>(ShortcutInvalidationMessage.class);
+
+        this.published = meterRegistry.counter("cache.invalidation.published", "cache", ShortcutCache.CACHE_NAME);
+        this.failed = meterRegistry.counter("cache.invalidation.failed", "cache", ShortcutCache.CACHE_NAME);
+        this.lag = Timer.builder("cache.invalidation.lag")
+                .description("Time between publishing an invalidation and evicting it on another instance")
+                .tag("cache", ShortcutCache.CACHE_NAME)
+                .register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(properties.getInvalidation().getChannel()));
+    }
+
+    /**
+     * Registers a subscriber, which is called for each invalidation published by other instances.
+     *
+     * @param subscriber Evicts the affected entries.
+     */
+    public void subscribe(Consumer<ShortcutInvalidationMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Publishes the invalidation of a single tag to all other instances.
+     *
+     * @param tag The shortcut's unique tag.
+     */
+    public void publish(String tag) {
+        publish(List.of(tag));
+    }
+
+    /**
+     * Publishes the invalidation of multiple tags to all other instances within a single message.
+     *
+     * @param tags The shortcuts' unique tags.
+     */
+    public void publish(Collection<String> tags) {
+        if (!tags.isEmpty()) {
+            send(List.copyOf(tags));
+        }
+    }
+
+    /**
+     * Publishes the invalidation of all tags to all other instances.
+     */
+    public void publishAll() {
+        send(null);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        ShortcutInvalidationMessage invalidation;
+
+        try {
+            invalidation = serializer.deserialize(message.getBody());
+        } catch (SerializationException exc) {
+            logger.warn("Discarding malformed shortcut invalidation", exc);
+            return;
+        }
+
+        if (invalidation == null || origin.equals(invalidation.getOrigin())) {
+            return;
+        }
+
+        subscribers.forEach(subscriber -> subscriber.accept(invalidation));
+        lag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - invalidation.getPublishedAt())));
+    }
+
+    private void send(List<String> tags) {
+        ShortcutInvalidationMessage invalidation = ShortcutInvalidationMessage.builder()
+                .origin(origin)
+                .tags(tags)
+                .publishedAt(System.currentTimeMillis())
+                .build();
+
+        try {
+            redisTemplate.convertAndSend(channel, new String(serializer.serialize(invalidation), StandardCharsets.UTF_8));
+            published.increment();
+        } catch (DataAccessException exc) {
+            logger.error("Failed to publish invalidation of {} tags, other instances evict them after expiration",
+                    null == tags ? "all" : tags.size(), exc);
+            failed.increment();
+        }
+    }
+}
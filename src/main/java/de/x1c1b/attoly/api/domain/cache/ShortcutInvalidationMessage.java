@@ -0,0 +1,23 @@
+package de.x1c1b.attoly.api.domain.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Notifies all instances that the given tags, or all tags if no tags are given, must be evicted from
+ * their in-memory cache.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ShortcutInvalidationMessage {
+
+    private String origin;
+    private List<String> tags;
+    private long publishedAt;
+}
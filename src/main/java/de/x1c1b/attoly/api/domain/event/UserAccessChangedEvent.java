@@ -0,0 +1,23 @@
+package de.x1c1b.attoly.api.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Published whenever a change affects how a user is authenticated or authorized, e.g. if the user was
+ * locked, deleted or its roles or credentials were changed. Information about the user cached outside
+ * the database, like the claims of issued access tokens, is outdated afterwards.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class UserAccessChangedEvent {
+
+    private UUID userId;
+    private String email;
+}
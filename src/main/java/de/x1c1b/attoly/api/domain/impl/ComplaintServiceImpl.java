@@ -9,10 +9,15 @@ import de.x1c1b.attoly.api.domain.payload.ComplaintCreationPayload;
 import de.x1c1b.attoly.api.repository.ComplaintRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -38,6 +43,17 @@ public class ComplaintServiceImpl implements ComplaintService {
         return complaintRepository.findAll(pageable);
     }
 
+    @Override
+    public Slice<Complaint> findAllAfter(Instant createdAt, UUID id, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+
+        if (createdAt == null || id == null) {
+            return complaintRepository.findSlice(pageable);
+        }
+
+        return complaintRepository.findSliceAfter(createdAt, id, pageable);
+    }
+
     @Override
     public Page<Complaint> findAll(Specification<Complaint> specification, Pageable pageable) {
         specification = specification.and((root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("deleted"), false));
@@ -89,4 +105,17 @@ public class ComplaintServiceImpl implements ComplaintService {
     protected void delete(Complaint complaint) throws EntityNotFoundException {
         complaintRepository.deleteSoft(complaint);
     }
+
+    @Override
+    @Transactional
+    public int archiveAllDeletedBefore(OffsetDateTime date, int limit) {
+        List<UUID> ids = complaintRepository.findArchivableIds(date.toInstant(), PageRequest.of(0, limit));
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        complaintRepository.copyToArchive(ids, Instant.now());
+        return complaintRepository.deleteAllByIdIn(ids);
+    }
 }
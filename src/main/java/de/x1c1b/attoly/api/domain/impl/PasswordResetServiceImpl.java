@@ -2,6 +2,7 @@ package de.x1c1b.attoly.api.domain.impl;
 
 import de.x1c1b.attoly.api.domain.EmailService;
 import de.x1c1b.attoly.api.domain.PasswordResetService;
+import de.x1c1b.attoly.api.domain.event.UserAccessChangedEvent;
 import de.x1c1b.attoly.api.domain.exception.EntityNotFoundException;
 import de.x1c1b.attoly.api.domain.exception.InvalidResetTokenException;
 import de.x1c1b.attoly.api.domain.exception.InvalidVerificationTokenException;
@@ -13,6 +14,7 @@ import freemarker.template.TemplateException;
 import lombok.SneakyThrows;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +33,7 @@ public class PasswordResetServiceImpl implements PasswordResetService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
     private final String resetPasswordWebUri;
 
     @Autowired
@@ -38,11 +41,13 @@ public class PasswordResetServiceImpl implements PasswordResetService {
                                     UserRepository userRepository,
                                     PasswordEncoder passwordEncoder,
                                     EmailService emailService,
+                                    ApplicationEventPublisher eventPublisher,
                                     @Value("${attoly.web.reset-password-uri}") String resetPasswordWebUri) {
         this.resetTokenRepository = resetTokenRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.emailService = emailService;
+        this.eventPublisher = eventPublisher;
         this.resetPasswordWebUri = resetPasswordWebUri;
     }
 
@@ -91,5 +96,10 @@ public class PasswordResetServiceImpl implements PasswordResetService {
 
         user.setPassword(passwordEncoder.encode(password));
         userRepository.save(user);
+
+        eventPublisher.publishEvent(UserAccessChangedEvent.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .build());
     }
 }
@@ -1,30 +1,51 @@
 package de.x1c1b.attoly.api.domain.impl;
 
 import de.x1c1b.attoly.api.domain.ShortcutService;
+import de.x1c1b.attoly.api.domain.cache.ShortcutCache;
 import de.x1c1b.attoly.api.domain.exception.EntityNotFoundException;
 import de.x1c1b.attoly.api.domain.model.Shortcut;
+import de.x1c1b.attoly.api.domain.model.ShortcutView;
 import de.x1c1b.attoly.api.domain.payload.ShortcutCreationPayload;
+import de.x1c1b.attoly.api.domain.tag.TagAllocator;
 import de.x1c1b.attoly.api.repository.ShortcutRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.util.Streamable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.security.SecureRandom;
+import javax.persistence.EntityManager;
+import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class ShortcutServiceImpl implements ShortcutService {
+
     private final ShortcutRepository shortcutRepository;
+    private final ShortcutCache shortcutCache;
+    private final TagAllocator tagAllocator;
+    private final EntityManager entityManager;
 
     @Autowired
-    public ShortcutServiceImpl(ShortcutRepository shortcutRepository) {
+    public ShortcutServiceImpl(ShortcutRepository shortcutRepository,
+                               ShortcutCache shortcutCache,
+                               TagAllocator tagAllocator,
+                               EntityManager entityManager) {
         this.shortcutRepository = shortcutRepository;
+        this.shortcutCache = shortcutCache;
+        this.tagAllocator = tagAllocator;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -37,6 +58,17 @@ public class ShortcutServiceImpl implements ShortcutService {
         return shortcutRepository.findAll(pageable);
     }
 
+    @Override
+    public Slice<Shortcut> findAllAfter(Instant createdAt, UUID id, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+
+        if (createdAt == null || id == null) {
+            return shortcutRepository.findSlice(pageable);
+        }
+
+        return shortcutRepository.findSliceAfter(createdAt, id, pageable);
+    }
+
     @Override
     public Page<Shortcut> findAll(Specification<Shortcut> specification, Pageable pageable) {
         specification = specification.and((root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("deleted"), false));
@@ -53,6 +85,19 @@ public class ShortcutServiceImpl implements ShortcutService {
         return shortcutRepository.findByOwnership(email, pageable);
     }
 
+    @Override
+    public Page<ShortcutView> findAllViewsByOwnership(String email, Pageable pageable) {
+        return shortcutRepository.findViewsByOwnership(email, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAllByOwnership(String email, Consumer<ShortcutView> consumer) {
+        try (Stream<ShortcutView> shortcuts = shortcutRepository.streamViewsByOwnership(email)) {
+            shortcuts.forEach(consumer);
+        }
+    }
+
     @Override
     public Shortcut findById(UUID id) throws EntityNotFoundException {
         return shortcutRepository.findById(id).orElseThrow(EntityNotFoundException::new);
@@ -64,19 +109,48 @@ public class ShortcutServiceImpl implements ShortcutService {
     }
 
     @Override
-    public Shortcut create(ShortcutCreationPayload payload) {
-        SecureRandom secureRandom = new SecureRandom();
-        byte[] secret = new byte[6];
+    public ShortcutView findViewByTag(String tag) throws EntityNotFoundException {
+        return shortcutRepository.findViewByTag(tag).orElseThrow(EntityNotFoundException::new);
+    }
 
-        secureRandom.nextBytes(secret);
-        String tag = Base64.getEncoder().encodeToString(secret);
+    @Override
+    public String findUrlByTag(String tag) throws EntityNotFoundException {
+        return shortcutCache.get(tag, shortcutRepository::findUrlByTag).orElseThrow(EntityNotFoundException::new);
+    }
 
+    @Override
+    public Shortcut create(ShortcutCreationPayload payload) {
         Shortcut shortcut = Shortcut.builder()
-                .tag(tag)
+                .tag(tagAllocator.allocate())
                 .url(payload.getUrl())
                 .build();
 
-        return shortcutRepository.save(shortcut);
+        Shortcut newShortcut = shortcutRepository.save(shortcut);
+        shortcutCache.put(newShortcut.getTag(), newShortcut.getUrl());
+
+        return newShortcut;
+    }
+
+    @Override
+    @Transactional
+    public List<Shortcut> createAll(List<ShortcutCreationPayload> payloads) {
+        List<String> tags = tagAllocator.allocate(payloads.size());
+        List<Shortcut> shortcuts = new ArrayList<>(payloads.size());
+
+        for (int index = 0; index < payloads.size(); index++) {
+            shortcuts.add(Shortcut.builder()
+                    .tag(tags.get(index))
+                    .url(payloads.get(index).getUrl())
+                    .build());
+        }
+
+        List<Shortcut> newShortcuts = Streamable.of(shortcutRepository.saveAll(shortcuts)).toList();
+
+        // Detach only the new shortcuts, otherwise consecutive calls within one request accumulate them
+        entityManager.flush();
+        newShortcuts.forEach(entityManager::detach);
+
+        return newShortcuts;
     }
 
     @Override
@@ -91,12 +165,52 @@ public class ShortcutServiceImpl implements ShortcutService {
         delete(findByTag(tag));
     }
 
+    @Override
+    @Transactional
+    public int deleteAllByTag(Collection<String> tags) {
+        List<String> list = List.copyOf(new LinkedHashSet<>(tags));
+        Instant deletedAt = Instant.now();
+        int deleted = 0;
+
+        for (int from = 0; from < list.size(); from += ShortcutRepository.IN_BATCH_SIZE) {
+            List<String> batch = list.subList(from, Math.min(from + ShortcutRepository.IN_BATCH_SIZE, list.size()));
+            deleted += shortcutRepository.deleteAllSoftByTagIn(batch, deletedAt);
+            shortcutCache.evictAll(batch);
+        }
+
+        return deleted;
+    }
+
     protected void delete(Shortcut shortcut) throws EntityNotFoundException {
         shortcutRepository.deleteSoft(shortcut);
+        shortcutCache.evict(shortcut.getTag());
     }
 
     @Override
-    public void deleteAllAnonymousCreatedBefore(OffsetDateTime date) {
-        shortcutRepository.deleteAllAnonymousSoftCreatedBefore(date.toInstant());
+    @Transactional
+    public int deleteAllAnonymousCreatedBefore(OffsetDateTime date, int limit) {
+        List<String> tags = shortcutRepository.findAnonymousTagsCreatedBefore(date.toInstant(), PageRequest.of(0, limit));
+
+        if (tags.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = shortcutRepository.deleteAllSoftByTagIn(tags, Instant.now());
+        shortcutCache.evictAll(tags);
+
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public int archiveAllDeletedBefore(OffsetDateTime date, int limit) {
+        List<UUID> ids = shortcutRepository.findArchivableIds(date.toInstant(), PageRequest.of(0, limit));
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        shortcutRepository.copyToArchive(ids, Instant.now());
+        return shortcutRepository.deleteAllByIdIn(ids);
     }
 }
@@ -2,6 +2,7 @@ package de.x1c1b.attoly.api.domain.impl;
 
 import de.x1c1b.attoly.api.domain.UserService;
 import de.x1c1b.attoly.api.domain.UserVerificationService;
+import de.x1c1b.attoly.api.domain.event.UserAccessChangedEvent;
 import de.x1c1b.attoly.api.domain.exception.EmailAlreadyInUseException;
 import de.x1c1b.attoly.api.domain.exception.EntityNotFoundException;
 import de.x1c1b.attoly.api.domain.exception.MustBeAdministrableException;
@@ -13,13 +14,17 @@ import de.x1c1b.attoly.api.domain.payload.UserUpdatePayload;
 import de.x1c1b.attoly.api.repository.RoleRepository;
 import de.x1c1b.attoly.api.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -31,16 +36,19 @@ public class UserServiceImpl implements UserService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserVerificationService userVerificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public UserServiceImpl(UserRepository userRepository,
                            RoleRepository roleRepository,
                            PasswordEncoder passwordEncoder,
-                           UserVerificationService userVerificationService) {
+                           UserVerificationService userVerificationService,
+                           ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
         this.userVerificationService = userVerificationService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -53,6 +61,17 @@ public class UserServiceImpl implements UserService {
         return userRepository.findAll(pageable);
     }
 
+    @Override
+    public Slice<User> findAllAfter(Instant createdAt, UUID id, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+
+        if (createdAt == null || id == null) {
+            return userRepository.findSlice(pageable);
+        }
+
+        return userRepository.findSliceAfter(createdAt, id, pageable);
+    }
+
     @Override
     public Page<User> findAll(Specification<User> specification, Pageable pageable) {
         specification = specification.and((root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("deleted"), false));
@@ -130,7 +149,13 @@ public class UserServiceImpl implements UserService {
             user.setLocked(payload.getLocked().get());
         }
 
-        return userRepository.save(user);
+        User updatedUser = userRepository.save(user);
+
+        if (payload.getPassword().isPresent() || payload.getLocked().isPresent()) {
+            publishAccessChanged(updatedUser);
+        }
+
+        return updatedUser;
     }
 
     @Override
@@ -149,6 +174,7 @@ public class UserServiceImpl implements UserService {
 
         user.getRoles().add(role);
         userRepository.save(user);
+        publishAccessChanged(user);
     }
 
     @Override
@@ -172,6 +198,7 @@ public class UserServiceImpl implements UserService {
 
         user.getRoles().remove(role);
         userRepository.save(user);
+        publishAccessChanged(user);
     }
 
     @Override
@@ -194,5 +221,13 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.deleteSoft(user);
+        publishAccessChanged(user);
+    }
+
+    protected void publishAccessChanged(User user) {
+        eventPublisher.publishEvent(UserAccessChangedEvent.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .build());
     }
 }
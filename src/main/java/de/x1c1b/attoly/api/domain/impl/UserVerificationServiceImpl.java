@@ -2,6 +2,7 @@ package de.x1c1b.attoly.api.domain.impl;
 
 import de.x1c1b.attoly.api.domain.EmailService;
 import de.x1c1b.attoly.api.domain.UserVerificationService;
+import de.x1c1b.attoly.api.domain.event.UserAccessChangedEvent;
 import de.x1c1b.attoly.api.domain.exception.EntityNotFoundException;
 import de.x1c1b.attoly.api.domain.exception.InvalidVerificationTokenException;
 import de.x1c1b.attoly.api.domain.model.User;
@@ -12,6 +13,7 @@ import freemarker.template.TemplateException;
 import lombok.SneakyThrows;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,16 +30,19 @@ public class UserVerificationServiceImpl implements UserVerificationService {
     private final VerificationTokenRepository verificationTokenRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
     private final String verifyUserWebUri;
 
     @Autowired
     public UserVerificationServiceImpl(VerificationTokenRepository verificationTokenRepository,
                                        UserRepository userRepository,
                                        EmailService emailService,
+                                       ApplicationEventPublisher eventPublisher,
                                        @Value("${attoly.web.verify-user-uri}") String verifyUserWebUri) {
         this.verificationTokenRepository = verificationTokenRepository;
         this.userRepository = userRepository;
         this.emailService = emailService;
+        this.eventPublisher = eventPublisher;
         this.verifyUserWebUri = verifyUserWebUri;
     }
 
@@ -86,5 +91,10 @@ public class UserVerificationServiceImpl implements UserVerificationService {
 
         user.setEmailVerified(true);
         userRepository.save(user);
+
+        eventPublisher.publishEvent(UserAccessChangedEvent.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .build());
     }
 }
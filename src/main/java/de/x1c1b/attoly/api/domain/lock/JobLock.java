@@ -0,0 +1,250 @@
+package de.x1c1b.attoly.api.domain.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cluster-wide lock ensuring that a job runs on a single instance at a time. The lock is a lease in
+ * Redis, which expires unless renewed periodically by the holder while the job is running. Thus, the
+ * lock is released even if the holder crashes. The value of the lock describes its current holder.
+ * Scheduled jobs keep the lock for a minimum hold time even if they complete earlier, so that instances
+ * whose trigger fires slightly later, e.g. due to clock skew, skip the same trigger instead of repeating it.
+ */
+@Component
+public class JobLock {
+
+    public static final String KEY_PREFIX = "JobLock:";
+    public static final String START_UP_JOB = "start-up";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final Logger logger = LoggerFactory.getLogger(JobLock.class);
+
+    private final String instance = UUID.randomUUID().toString();
+    private final String host = resolveHost();
+    private final JobLockProperties properties;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Jackson2JsonRedisSerializer<JobLockHolder> serializer;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-lock-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public JobLock(JobLockProperties properties,
+                   RedisTemplate<String, Object> redisTemplate,
+                   MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.serializer = new Jackson2JsonRedisSerializer<>(JobLockHolder.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs a scheduled job if no other instance is currently running it. The lock is held until the job
+     * has completed, but at least for the minimum hold time, if the lock cannot be acquired the job is
+     * skipped.
+     *
+     * @param job  The job's unique name.
+     * @param task The job to run.
+     * @return Whether the job was run by this instance.
+     */
+    public boolean runExclusively(String job, Runnable task) {
+        if (!properties.isEnabled()) {
+            task.run();
+            return true;
+        }
+
+        long acquiredAt = System.currentTimeMillis();
+        String key = KEY_PREFIX + job;
+        String value = createValue(job, acquiredAt);
+
+        if (!acquire(job, key, value)) {
+            return false;
+        }
+
+        runHolding(job, key, value, task, acquiredAt + properties.getMinimumHoldTime());
+        return true;
+    }
+
+    /**
+     * Runs an idempotent job, e.g. a start up job, once the lock is free. If the lock cannot be acquired
+     * within the wait timeout or Redis is unavailable, the job is run without lock, as running it
+     * concurrently does no harm. The lock is released as soon as the job has completed.
+     *
+     * @param job  The job's unique name.
+     * @param task The job to run.
+     */
+    public void runSequentially(String job, Runnable task) {
+        if (!properties.isEnabled()) {
+            task.run();
+            return;
+        }
+
+        String key = KEY_PREFIX + job;
+        String value = createValue(job, System.currentTimeMillis());
+        long deadline = System.currentTimeMillis() + properties.getWaitTimeout();
+
+        try {
+            while (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, properties.getLeaseTime(), TimeUnit.MILLISECONDS))) {
+                if (System.currentTimeMillis() >= deadline) {
+                    meterRegistry.counter("scheduling.lock.failed", "job", job).increment();
+                    logger.warn("Timed out waiting for lock of job '{}', running it without lock", job);
+                    task.run();
+                    return;
+                }
+
+                Thread.sleep(properties.getWaitInterval());
+            }
+        } catch (DataAccessException exc) {
+            meterRegistry.counter("scheduling.lock.failed", "job", job).increment();
+            logger.warn("Failed to acquire lock of job '{}', running it without lock", job, exc);
+            task.run();
+            return;
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for lock of job '{}', running it without lock", job);
+            task.run();
+            return;
+        }
+
+        meterRegistry.counter("scheduling.lock.acquired", "job", job).increment();
+        runHolding(job, key, value, task, 0L);
+    }
+
+    /**
+     * Loads the instance currently holding the lock of a job.
+     *
+     * @param job The job's unique name.
+     * @return The current holder, empty if the job isn't running.
+     */
+    public Optional<JobLockHolder> findHolder(String job) {
+        Object value = redisTemplate.opsForValue().get(KEY_PREFIX + job);
+
+        if (Objects.isNull(value)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(serializer.deserialize(value.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (SerializationException exc) {
+            logger.warn("Lock of job '{}' has a malformed holder", job, exc);
+            return Optional.empty();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    private String createValue(String job, long acquiredAt) {
+        return serialize(JobLockHolder.builder()
+                .job(job)
+                .instance(instance)
+                .host(host)
+                .acquiredAt(acquiredAt)
+                .build());
+    }
+
+    private void runHolding(String job, String key, String value, Runnable task, long holdUntil) {
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(job, key, value),
+                properties.getRenewInterval(), properties.getRenewInterval(), TimeUnit.MILLISECONDS);
+
+        try {
+            task.run();
+        } finally {
+            renewal.cancel(false);
+            release(job, key, value, holdUntil - System.currentTimeMillis());
+        }
+    }
+
+    private boolean acquire(String job, String key, String value) {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, properties.getLeaseTime(), TimeUnit.MILLISECONDS))) {
+                meterRegistry.counter("scheduling.lock.acquired", "job", job).increment();
+                logger.info("Acquired lock of job '{}' as instance {} on {}", job, instance, host);
+                return true;
+            }
+
+            meterRegistry.counter("scheduling.lock.skipped", "job", job).increment();
+            logger.info("Skipping job '{}', it is already running on {}", job,
+                    findHolder(job).map(JobLockHolder::getHost).orElse("another instance"));
+        } catch (DataAccessException exc) {
+            meterRegistry.counter("scheduling.lock.failed", "job", job).increment();
+            logger.error("Failed to acquire lock of job '{}', skipping execution", job, exc);
+        }
+
+        return false;
+    }
+
+    private void renew(String job, String key, String value) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), value, String.valueOf(properties.getLeaseTime()));
+
+            if (!Objects.equals(renewed, 1L)) {
+                meterRegistry.counter("scheduling.lock.lost", "job", job).increment();
+                logger.warn("Lost lock of job '{}', another instance may run it concurrently", job);
+            }
+        } catch (DataAccessException exc) {
+            logger.warn("Failed to renew lock of job '{}'", job, exc);
+        }
+    }
+
+    /**
+     * Releases the lock, or lets it expire after the remaining hold time if it must still be held.
+     */
+    private void release(String job, String key, String value, long remainingHoldTime) {
+        try {
+            if (remainingHoldTime > 0) {
+                redisTemplate.execute(RENEW_SCRIPT, List.of(key), value, String.valueOf(remainingHoldTime));
+            } else {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(key), value);
+            }
+        } catch (DataAccessException exc) {
+            logger.warn("Failed to release lock of job '{}', it expires after the lease time", job, exc);
+        }
+    }
+
+    private String serialize(JobLockHolder holder) {
+        return new String(serializer.serialize(holder), StandardCharsets.UTF_8);
+    }
+
+    private static String resolveHost() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException exc) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package de.x1c1b.attoly.api.domain.lock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actuator endpoint listing all currently running jobs together with the instance holding their lock.
+ */
+@Component
+@Endpoint(id = "joblocks")
+public class JobLockEndpoint {
+
+    private final JobLock jobLock;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    public JobLockEndpoint(JobLock jobLock, RedisTemplate<String, Object> redisTemplate) {
+        this.jobLock = jobLock;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @ReadOperation
+    public Map<String, JobLockHolder> holders() {
+        Map<String, JobLockHolder> holders = new TreeMap<>();
+        List<String> jobs = redisTemplate.execute((RedisCallback<List<String>>) this::findJobs);
+
+        if (jobs != null) {
+            jobs.forEach(job -> jobLock.findHolder(job).ifPresent(holder -> holders.put(job, holder)));
+        }
+
+        return holders;
+    }
+
+    private List<String> findJobs(RedisConnection connection) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(JobLock.KEY_PREFIX + "*")
+                .build();
+        List<String> jobs = new ArrayList<>();
+
+        try (Cursor<byte[]> cursor = connection.scan(options)) {
+            while (cursor.hasNext()) {
+                jobs.add(new String(cursor.next(), StandardCharsets.UTF_8).substring(JobLock.KEY_PREFIX.length()));
+            }
+        }
+
+        return jobs;
+    }
+}
@@ -0,0 +1,21 @@
+package de.x1c1b.attoly.api.domain.lock;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Describes the instance currently executing a job, stored as value of the job's lock.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class JobLockHolder {
+
+    private String job;
+    private String instance;
+    private String host;
+    private long acquiredAt;
+}
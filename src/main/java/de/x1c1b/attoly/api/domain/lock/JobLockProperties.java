@@ -0,0 +1,35 @@
+package de.x1c1b.attoly.api.domain.lock;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "attoly.scheduling.lock")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class JobLockProperties {
+
+    @Builder.Default
+    private boolean enabled = true;
+
+    @Builder.Default
+    private long leaseTime = 60000L; // 1 minute
+
+    @Builder.Default
+    private long renewInterval = 20000L; // 20 seconds
+
+    @Builder.Default
+    private long minimumHoldTime = 30000L; // 30 seconds
+
+    @Builder.Default
+    private long waitTimeout = 60000L; // 1 minute
+
+    @Builder.Default
+    private long waitInterval = 1000L; // 1 second
+}
@@ -0,0 +1,36 @@
+package de.x1c1b.attoly.api.domain.model;
+
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.*;
+import java.util.UUID;
+
+/**
+ * Soft-deleted {@link Complaint} moved out of the hot table.
+ */
+@Entity
+@Immutable
+@Table(name = "complaints_archive", indexes = {
+        @Index(name = "idx_complaints_archive_shortcut", columnList = "shortcut")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@EqualsAndHashCode(callSuper = true)
+@SuperBuilder
+public class ArchivedComplaint extends ArchivedEntity {
+
+    @Column(name = "reason", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Complaint.Reason reason;
+
+    @Column(name = "comment", length = 2000)
+    private String comment;
+
+    @Type(type = "attoly-uuid")
+    @Column(name = "shortcut")
+    private UUID shortcut;
+}
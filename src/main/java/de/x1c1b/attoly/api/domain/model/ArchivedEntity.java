@@ -0,0 +1,49 @@
+package de.x1c1b.attoly.api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.Column;
+import javax.persistence.Id;
+import javax.persistence.MappedSuperclass;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Base of all archive tables. Archived rows keep the columns of their {@link BaseEntity} unchanged,
+ * so that they can be read together with the rows of the original table, and are never modified.
+ */
+@MappedSuperclass
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@SuperBuilder
+public abstract class ArchivedEntity implements Serializable {
+
+    @Id
+    @Type(type = "attoly-uuid")
+    @Column(name = "id", unique = true, nullable = false)
+    private UUID id;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "last_modified_at", nullable = false)
+    private Instant lastModifiedAt;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
+
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,36 @@
+package de.x1c1b.attoly.api.domain.model;
+
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.*;
+import java.util.UUID;
+
+/**
+ * Soft-deleted {@link Shortcut} moved out of the hot table. Only shortcuts without any complaints are
+ * archived, hence no archived complaint refers to an archived shortcut.
+ */
+@Entity
+@Immutable
+@Table(name = "shortcuts_archive", indexes = {
+        @Index(name = "idx_shortcuts_archive_tag", columnList = "tag")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@EqualsAndHashCode(callSuper = true)
+@SuperBuilder
+public class ArchivedShortcut extends ArchivedEntity {
+
+    @Column(name = "tag", nullable = false)
+    private String tag;
+
+    @Column(name = "url", length = 2000, nullable = false)
+    private String url;
+
+    @Type(type = "attoly-uuid")
+    @Column(name = "created_by")
+    private UUID createdBy;
+}
@@ -2,6 +2,7 @@ package de.x1c1b.attoly.api.domain.model;
 
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -21,8 +22,9 @@ import java.util.UUID;
 public abstract class BaseEntity implements Serializable {
 
     @Id
-    @Type(type = "uuid-char")
-    @GeneratedValue
+    @Type(type = "attoly-uuid")
+    @GeneratedValue(generator = "attoly-uuid")
+    @GenericGenerator(name = "attoly-uuid", strategy = "de.x1c1b.attoly.api.repository.id.ConfigurableUUIDGenerator")
     @Column(name = "id", unique = true, nullable = false)
     private UUID id;
 
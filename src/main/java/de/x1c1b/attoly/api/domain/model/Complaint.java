@@ -6,7 +6,12 @@ import lombok.experimental.SuperBuilder;
 import javax.persistence.*;
 
 @Entity
-@Table(name = "complaints")
+@NamedEntityGraph(name = Complaint.WITH_SHORTCUT, attributeNodes = @NamedAttributeNode("shortcut"))
+@Table(name = "complaints", indexes = {
+        @Index(name = "idx_complaints_shortcut_deleted", columnList = "shortcut, deleted"),
+        @Index(name = "idx_complaints_deleted_created_at", columnList = "deleted, created_at"),
+        @Index(name = "idx_complaints_deleted_deleted_at", columnList = "deleted, deleted_at")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
@@ -14,6 +19,11 @@ import javax.persistence.*;
 @SuperBuilder
 public class Complaint extends BaseEntity {
 
+    /**
+     * Fetch plan loading the complaint along with the reported shortcut, e.g. for listings.
+     */
+    public static final String WITH_SHORTCUT = "Complaint.withShortcut";
+
     @Column(name = "reason", nullable = false)
     @Enumerated(EnumType.STRING)
     private Reason reason;
@@ -21,7 +31,7 @@ public class Complaint extends BaseEntity {
     @Column(name = "comment", length = 2000)
     private String comment;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "shortcut")
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
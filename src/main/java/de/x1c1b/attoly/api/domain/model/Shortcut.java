@@ -11,6 +11,10 @@ import java.util.List;
 @Entity
 @Table(name = "shortcuts", uniqueConstraints = {
         @UniqueConstraint(columnNames = "tag")
+}, indexes = {
+        @Index(name = "idx_shortcuts_created_by_deleted_created_at", columnList = "created_by, deleted, created_at"),
+        @Index(name = "idx_shortcuts_deleted_created_at", columnList = "deleted, created_at"),
+        @Index(name = "idx_shortcuts_deleted_deleted_at", columnList = "deleted, deleted_at")
 })
 @AllArgsConstructor
 @NoArgsConstructor
@@ -26,7 +30,7 @@ public class Shortcut extends BaseEntity {
     private String url;
 
     @CreatedBy
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by")
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
@@ -0,0 +1,26 @@
+package de.x1c1b.attoly.api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a {@link Shortcut} for read paths. In contrast to the entity, neither the
+ * creator nor the complaints are loaded and the persistence context doesn't track the result.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ShortcutView {
+
+    private UUID id;
+    private String tag;
+    private String url;
+    private Instant createdAt;
+    private boolean anonymous;
+}
@@ -0,0 +1,32 @@
+package de.x1c1b.attoly.api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.io.Serializable;
+
+/**
+ * Sequence from which instances lease ranges of numbers, e.g. for encoding tags. Only the end of the
+ * last leased range is stored, so that leased numbers are never issued twice.
+ */
+@Entity
+@Table(name = "tag_sequences")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class TagSequence implements Serializable {
+
+    @Id
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "leased_until", nullable = false)
+    private long leasedUntil;
+}
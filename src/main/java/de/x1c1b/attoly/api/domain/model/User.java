@@ -10,8 +10,12 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
+@NamedEntityGraph(name = User.WITH_ROLES, attributeNodes = @NamedAttributeNode("roles"))
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(columnNames = "email")
+}, indexes = {
+        @Index(name = "idx_users_email_deleted", columnList = "email, deleted"),
+        @Index(name = "idx_users_deleted_created_at", columnList = "deleted, created_at")
 })
 @AllArgsConstructor
 @NoArgsConstructor
@@ -20,6 +24,11 @@ import java.util.Set;
 @SuperBuilder
 public class User extends BaseEntity {
 
+    /**
+     * Fetch plan loading the user along with its roles, e.g. for authentication.
+     */
+    public static final String WITH_ROLES = "User.withRoles";
+
     @Column(name = "email", unique = true, nullable = false)
     private String email;
 
@@ -41,7 +50,7 @@ public class User extends BaseEntity {
     @Column(name = "identity_provider_id")
     private String identityProviderId;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
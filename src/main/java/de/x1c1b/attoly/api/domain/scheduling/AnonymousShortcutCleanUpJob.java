@@ -1,6 +1,10 @@
 package de.x1c1b.attoly.api.domain.scheduling;
 
 import de.x1c1b.attoly.api.domain.ShortcutService;
+import de.x1c1b.attoly.api.domain.lock.JobLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,12 +14,17 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Cron job for deleting all expired and anonymously created shortcuts. This
  * operation deletes all shortcuts that were not assigned to an account and
  * which were created before a certain point in time, thus cleaning up the
- * database.
+ * database. The shortcuts are deleted in small chunks, each within its own
+ * transaction and followed by a pause, so that row locks are only held
+ * briefly. Since deleted shortcuts are skipped, an interrupted run simply
+ * continues with the remaining shortcuts the next time. Within a cluster, the
+ * job only runs on a single instance at a time.
  */
 @Component
 @ConditionalOnProperty(prefix = "attoly.scheduling.jobs.anonymous-shortcut-clean-up", name = "enabled", matchIfMissing = true, havingValue = "true")
@@ -24,18 +33,69 @@ public class AnonymousShortcutCleanUpJob {
     private final Logger logger = LoggerFactory.getLogger(AnonymousShortcutCleanUpJob.class);
 
     private final ShortcutService shortcutService;
+    private final JobLock jobLock;
     private final long anonymousShortcutExpiresIn;
+    private final int batchSize;
+    private final long pause;
+    private final Counter processed;
+    private final Timer chunkDuration;
+    private final Timer runDuration;
 
     @Autowired
     public AnonymousShortcutCleanUpJob(ShortcutService shortcutService,
-                                       @Value("${attoly.scheduling.jobs.anonymous-shortcut-clean-up.expires-in:2419200000}") long anonymousShortcutExpiresIn) {
+                                       JobLock jobLock,
+                                       @Value("${attoly.scheduling.jobs.anonymous-shortcut-clean-up.expires-in:2419200000}") long anonymousShortcutExpiresIn,
+                                       @Value("${attoly.scheduling.jobs.anonymous-shortcut-clean-up.batch-size:1000}") int batchSize,
+                                       @Value("${attoly.scheduling.jobs.anonymous-shortcut-clean-up.pause:100}") long pause,
+                                       MeterRegistry meterRegistry) {
         this.shortcutService = shortcutService;
+        this.jobLock = jobLock;
         this.anonymousShortcutExpiresIn = anonymousShortcutExpiresIn;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.processed = meterRegistry.counter("clean.up.rows.processed", "job", "anonymous-shortcut-clean-up");
+        this.chunkDuration = Timer.builder("clean.up.chunk.duration")
+                .tag("job", "anonymous-shortcut-clean-up")
+                .register(meterRegistry);
+        this.runDuration = Timer.builder("clean.up.run.duration")
+                .tag("job", "anonymous-shortcut-clean-up")
+                .register(meterRegistry);
     }
 
     @Scheduled(cron = "${attoly.scheduling.jobs.anonymous-shortcut-clean-up.cron:@daily}")
     protected void run() {
+        jobLock.runExclusively("anonymous-shortcut-clean-up", this::runLocked);
+    }
+
+    private void runLocked() {
         logger.info("Deletion job for anonymous expired shortcuts is running");
-        shortcutService.deleteAllAnonymousCreatedBefore(OffsetDateTime.now().minusSeconds(anonymousShortcutExpiresIn / 60));
+
+        long deleted = runDuration.record(() -> deleteAll(OffsetDateTime.now().minus(anonymousShortcutExpiresIn, ChronoUnit.MILLIS)));
+
+        logger.info("Deletion job for anonymous expired shortcuts deleted {} shortcuts", deleted);
+    }
+
+    private long deleteAll(OffsetDateTime createdBefore) {
+        long total = 0;
+        int deleted;
+
+        do {
+            deleted = chunkDuration.record(() -> shortcutService.deleteAllAnonymousCreatedBefore(createdBefore, batchSize));
+            processed.increment(deleted);
+            total += deleted;
+        } while (deleted >= batchSize && sleep());
+
+        return total;
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException exc) {
+            logger.warn("Deletion job for anonymous expired shortcuts was interrupted");
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 }
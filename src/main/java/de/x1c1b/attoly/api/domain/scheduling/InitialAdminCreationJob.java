@@ -1,5 +1,6 @@
 package de.x1c1b.attoly.api.domain.scheduling;
 
+import de.x1c1b.attoly.api.domain.lock.JobLock;
 import de.x1c1b.attoly.api.domain.model.RoleName;
 import de.x1c1b.attoly.api.domain.model.User;
 import de.x1c1b.attoly.api.repository.RoleRepository;
@@ -18,7 +19,8 @@ import org.springframework.stereotype.Component;
 import java.util.Set;
 
 /**
- * Start up job for creating the initial admin user. The user is only created, if it didn't already exists.
+ * Start up job for creating the initial admin user. The user is only created, if it didn't already exists. Within a
+ * cluster, the job shares its lock with the other start up jobs and waits for them.
  */
 @Component
 @ConditionalOnProperty(prefix = "attoly.scheduling.jobs.initial-admin-creation", name = "enabled", havingValue = "true")
@@ -30,6 +32,7 @@ public class InitialAdminCreationJob implements ApplicationListener<ApplicationS
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JobLock jobLock;
     private final String email;
     private final String password;
 
@@ -37,17 +40,23 @@ public class InitialAdminCreationJob implements ApplicationListener<ApplicationS
     public InitialAdminCreationJob(UserRepository userRepository,
                                    RoleRepository roleRepository,
                                    PasswordEncoder passwordEncoder,
+                                   JobLock jobLock,
                                    @Value("${attoly.scheduling.jobs.initial-admin-creation.email}") String email,
                                    @Value("${attoly.scheduling.jobs.initial-admin-creation.password}") String password) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.jobLock = jobLock;
         this.email = email;
         this.password = password;
     }
 
     @Override
     public void onApplicationEvent(ApplicationStartedEvent event) {
+        jobLock.runSequentially(JobLock.START_UP_JOB, this::create);
+    }
+
+    private void create() {
         if (email == null || email.isEmpty()) {
             logger.warn("No email address for default admin user specified");
             return;
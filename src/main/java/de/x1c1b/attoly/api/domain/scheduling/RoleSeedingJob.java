@@ -1,5 +1,6 @@
 package de.x1c1b.attoly.api.domain.scheduling;
 
+import de.x1c1b.attoly.api.domain.lock.JobLock;
 import de.x1c1b.attoly.api.domain.model.Role;
 import de.x1c1b.attoly.api.domain.model.RoleName;
 import de.x1c1b.attoly.api.repository.RoleRepository;
@@ -16,7 +17,8 @@ import java.util.HashSet;
 
 /**
  * Start up job for seeding the database with all required security roles. Roles are only created, if they didn't
- * already exists.
+ * already exists. Within a cluster, start up jobs share a single lock, so that instances starting simultaneously wait
+ * for each other. As seeding is idempotent, it still runs without lock if the lock is unavailable.
  */
 @Component
 @ConditionalOnProperty(prefix = "attoly.scheduling.jobs.role-seeding", name = "enabled", havingValue = "true")
@@ -26,14 +28,20 @@ public class RoleSeedingJob implements ApplicationListener<ApplicationStartedEve
     private final Logger logger = LoggerFactory.getLogger(RoleSeedingJob.class);
 
     private final RoleRepository roleRepository;
+    private final JobLock jobLock;
 
     @Autowired
-    public RoleSeedingJob(RoleRepository roleRepository) {
+    public RoleSeedingJob(RoleRepository roleRepository, JobLock jobLock) {
         this.roleRepository = roleRepository;
+        this.jobLock = jobLock;
     }
 
     @Override
     public void onApplicationEvent(ApplicationStartedEvent event) {
+        jobLock.runSequentially(JobLock.START_UP_JOB, this::seed);
+    }
+
+    private void seed() {
         logger.info("Seeding security roles in database");
 
         if (!roleRepository.existsByName(RoleName.ROLE_ADMIN)) {
@@ -0,0 +1,85 @@
+package de.x1c1b.attoly.api.domain.scheduling;
+
+import de.x1c1b.attoly.api.domain.ComplaintService;
+import de.x1c1b.attoly.api.domain.ShortcutService;
+import de.x1c1b.attoly.api.domain.lock.JobLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Cron job for moving soft-deleted shortcuts and reports into the archive tables once their retention
+ * expired. Rows are moved in bounded batches, each within its own transaction, so that the hot tables
+ * are never locked for long. Shortcuts which are referred to by reports are never archived, so that
+ * archived reports can always resolve their shortcut. Within a cluster, the job only runs on a single
+ * instance at a time.
+ */
+@Component
+@ConditionalOnProperty(prefix = "attoly.scheduling.jobs.soft-delete-archival", name = "enabled", havingValue = "true")
+public class SoftDeleteArchivalJob {
+
+    private final Logger logger = LoggerFactory.getLogger(SoftDeleteArchivalJob.class);
+
+    private final ShortcutService shortcutService;
+    private final ComplaintService complaintService;
+    private final JobLock jobLock;
+    private final long retention;
+    private final int batchSize;
+    private final Counter movedShortcuts;
+    private final Counter movedComplaints;
+
+    @Autowired
+    public SoftDeleteArchivalJob(ShortcutService shortcutService,
+                                 ComplaintService complaintService,
+                                 JobLock jobLock,
+                                 @Value("${attoly.scheduling.jobs.soft-delete-archival.retention:2592000000}") long retention,
+                                 @Value("${attoly.scheduling.jobs.soft-delete-archival.batch-size:1000}") int batchSize,
+                                 MeterRegistry meterRegistry) {
+        this.shortcutService = shortcutService;
+        this.complaintService = complaintService;
+        this.jobLock = jobLock;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.movedShortcuts = meterRegistry.counter("archival.rows.moved", "table", "shortcuts");
+        this.movedComplaints = meterRegistry.counter("archival.rows.moved", "table", "complaints");
+    }
+
+    @Scheduled(cron = "${attoly.scheduling.jobs.soft-delete-archival.cron:@daily}")
+    protected void run() {
+        jobLock.runExclusively("soft-delete-archival", this::runLocked);
+    }
+
+    private void runLocked() {
+        logger.info("Archival job for soft-deleted entities is running");
+
+        OffsetDateTime deletedBefore = OffsetDateTime.now().minus(retention, ChronoUnit.MILLIS);
+
+        long complaints = archive(complaintService::archiveAllDeletedBefore, deletedBefore, movedComplaints);
+        long shortcuts = archive(shortcutService::archiveAllDeletedBefore, deletedBefore, movedShortcuts);
+
+        logger.info("Archival job moved {} shortcuts and {} complaints", shortcuts, complaints);
+    }
+
+    private long archive(BiFunction<OffsetDateTime, Integer, Integer> batch, OffsetDateTime deletedBefore, Counter counter) {
+        long total = 0;
+        int moved;
+
+        do {
+            moved = batch.apply(deletedBefore, batchSize);
+            counter.increment(moved);
+            total += moved;
+        } while (moved >= batchSize);
+
+        return total;
+    }
+}
@@ -0,0 +1,132 @@
+package de.x1c1b.attoly.api.domain.tag;
+
+import de.x1c1b.attoly.api.repository.ShortcutRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Allocates random tags from a pool, which is refilled in the background once it falls below a
+ * threshold. Tags are checked against the database in batches before entering the pool, so that
+ * creating a shortcut just pops a tag. If the pool runs dry, tags are generated on the spot.
+ */
+@Component
+@ConditionalOnProperty(prefix = "attoly.shortcut.tag", name = "strategy", havingValue = "random", matchIfMissing = true)
+public class RandomTagAllocator implements TagAllocator {
+
+    private static final int TAG_BYTES = 6;
+
+    private final Logger logger = LoggerFactory.getLogger(RandomTagAllocator.class);
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    private final Queue<String> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tag-pool-refill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final TagAllocatorProperties.PoolProperties properties;
+    private final ShortcutRepository shortcutRepository;
+    private final Timer refillTimer;
+    private final Counter exhausted;
+
+    @Autowired
+    public RandomTagAllocator(TagAllocatorProperties properties,
+                              ShortcutRepository shortcutRepository,
+                              MeterRegistry meterRegistry) {
+        this.properties = properties.getPool();
+        this.shortcutRepository = shortcutRepository;
+
+        Gauge.builder("tag.pool.depth", depth, AtomicInteger::get)
+                .description("Number of pre-generated tags available for allocation")
+                .register(meterRegistry);
+
+        this.refillTimer = Timer.builder("tag.pool.refill")
+                .description("Duration of refilling the tag pool")
+                .register(meterRegistry);
+        this.exhausted = meterRegistry.counter("tag.pool.exhausted");
+    }
+
+    @Override
+    public String allocate() {
+        String tag = pool.poll();
+
+        if (tag == null) {
+            exhausted.increment();
+            scheduleRefill();
+            return generate();
+        }
+
+        if (depth.decrementAndGet() < properties.getRefillThreshold()) {
+            scheduleRefill();
+        }
+
+        return tag;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleRefill() {
+        if (refilling.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                try {
+                    refillTimer.record(this::refill);
+                } catch (RuntimeException exc) {
+                    logger.error("Failed to refill tag pool", exc);
+                } finally {
+                    refilling.set(false);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void refill() {
+        while (depth.get() < properties.getSize()) {
+            Set<String> batch = new HashSet<>(properties.getBatchSize());
+
+            while (batch.size() < properties.getBatchSize()) {
+                batch.add(generate());
+            }
+
+            shortcutRepository.findTakenTags(batch).forEach(batch::remove);
+
+            pool.addAll(batch);
+            depth.addAndGet(batch.size());
+        }
+    }
+
+    private String generate() {
+        byte[] secret = new byte[TAG_BYTES];
+        secureRandom.nextBytes(secret);
+
+        return encoder.encodeToString(secret);
+    }
+}
@@ -0,0 +1,111 @@
+package de.x1c1b.attoly.api.domain.tag;
+
+import de.x1c1b.attoly.api.repository.TagSequenceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Allocates tags by encoding sequential numbers with a shuffled base62 alphabet. Each instance leases
+ * a range of numbers from a sequence stored in the database, so tags are unique across all instances
+ * without any round-trip per allocation. Encoded tags are shorter than the 8 characters of random
+ * tags, so both strategies never produce the same tag. Once the sequence exceeds 62^7, no further
+ * tags are allocated.
+ */
+@Component
+@ConditionalOnProperty(prefix = "attoly.shortcut.tag", name = "strategy", havingValue = "range")
+public class RangeTagAllocator implements TagAllocator {
+
+    static final String SEQUENCE_NAME = "shortcuts";
+
+    static final int MAXIMUM_LENGTH = 7;
+
+    private static final char[] ALPHABET = "WCqQkgbitc09OhfT2F8HsuvPRY57e3xU1LzZmw4Sr6MGdIpjVEolNaKBAnJyXD".toCharArray();
+
+    // 62^7, the first value that would be encoded with the length of random tags
+    private static final long MAXIMUM_VALUE = 3521614606208L;
+
+    private final Logger logger = LoggerFactory.getLogger(RangeTagAllocator.class);
+
+    private final TagAllocatorProperties.RangeProperties properties;
+    private final TagSequenceRepository tagSequenceRepository;
+
+    private volatile Range range = new Range(1, 0);
+
+    @Autowired
+    public RangeTagAllocator(TagAllocatorProperties properties, TagSequenceRepository tagSequenceRepository) {
+        this.properties = properties.getRange();
+        this.tagSequenceRepository = tagSequenceRepository;
+    }
+
+    @Override
+    public String allocate() {
+        while (true) {
+            Range current = range;
+            long value = current.next.getAndIncrement();
+
+            if (value <= current.last) {
+                return encode(value, properties.getMinimumLength());
+            }
+
+            synchronized (this) {
+                if (range == current) {
+                    range = lease();
+                }
+            }
+        }
+    }
+
+    private Range lease() {
+        long last;
+
+        try {
+            last = tagSequenceRepository.lease(SEQUENCE_NAME, properties.getSize());
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException exc) {
+            // Another instance created the sequence concurrently or won a deadlock while doing so, the
+            // sequence can be incremented now
+            last = tagSequenceRepository.lease(SEQUENCE_NAME, properties.getSize());
+        }
+
+        logger.debug("Leased tag range ending at {}", last);
+
+        return new Range(last - properties.getSize() + 1, last);
+    }
+
+    static String encode(long value, int minimumLength) {
+        if (value >= MAXIMUM_VALUE) {
+            throw new IllegalStateException(String.format("Tag sequence exhausted, %d can't be encoded in %d characters",
+                    value, MAXIMUM_LENGTH));
+        }
+
+        StringBuilder builder = new StringBuilder();
+
+        do {
+            builder.append(ALPHABET[(int) (value % ALPHABET.length)]);
+            value /= ALPHABET.length;
+        } while (value > 0);
+
+        while (builder.length() < minimumLength) {
+            builder.append(ALPHABET[0]);
+        }
+
+        return builder.reverse().toString();
+    }
+
+    private static class Range {
+
+        private final AtomicLong next;
+        private final long last;
+
+        Range(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+    }
+}
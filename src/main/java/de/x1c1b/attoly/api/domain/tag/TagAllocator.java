@@ -0,0 +1,33 @@
+package de.x1c1b.attoly.api.domain.tag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Allocates unique, URL-safe tags for newly created shortcuts.
+ */
+public interface TagAllocator {
+
+    /**
+     * Allocates a tag, that isn't used by any other shortcut yet.
+     *
+     * @return The allocated tag.
+     */
+    String allocate();
+
+    /**
+     * Allocates multiple tags at once, e.g. for creating shortcuts in bulk.
+     *
+     * @param count The number of tags to allocate.
+     * @return The allocated tags.
+     */
+    default List<String> allocate(int count) {
+        List<String> tags = new ArrayList<>(count);
+
+        for (int index = 0; index < count; index++) {
+            tags.add(allocate());
+        }
+
+        return tags;
+    }
+}
@@ -0,0 +1,62 @@
+package de.x1c1b.attoly.api.domain.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+@Component
+@Validated
+@ConfigurationProperties(prefix = "attoly.shortcut.tag")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class TagAllocatorProperties {
+
+    @Builder.Default
+    private PoolProperties pool = new PoolProperties();
+
+    @Valid
+    @Builder.Default
+    private RangeProperties range = new RangeProperties();
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class PoolProperties {
+
+        @Builder.Default
+        private int size = 10000;
+
+        @Builder.Default
+        private int refillThreshold = 2500;
+
+        @Builder.Default
+        private int batchSize = 1000;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class RangeProperties {
+
+        @Builder.Default
+        private long size = 1000L;
+
+        // Must stay below the 8 characters of random tags, so that both strategies never collide
+        @Min(1)
+        @Max(RangeTagAllocator.MAXIMUM_LENGTH)
+        @Builder.Default
+        private int minimumLength = 6;
+    }
+}
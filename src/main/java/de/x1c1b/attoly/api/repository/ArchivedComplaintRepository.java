@@ -0,0 +1,82 @@
+package de.x1c1b.attoly.api.repository;
+
+import de.x1c1b.attoly.api.domain.model.ArchivedComplaint;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reads complaints across the hot and the archive table. The rows are mapped to the immutable
+ * {@link ArchivedComplaint}, hence they can't be modified accidentally and don't mix with the managed
+ * complaints of the persistence context. Rows of the hot table have no {@code archivedAt}. All lookups
+ * of deleted or any complaints that must include archived rows go through this repository, the methods
+ * inherited by {@link ComplaintRepository} from {@link BaseRepository} only cover the hot table.
+ */
+@Repository
+public interface ArchivedComplaintRepository extends org.springframework.data.repository.Repository<ArchivedComplaint, UUID> {
+
+    /**
+     * Columns of the {@code complaints} table, completed to match the {@code complaints_archive} table.
+     */
+    String HOT_COLUMNS = ComplaintRepository.COLUMNS + ", NULL AS archived_at";
+
+    /**
+     * Columns of the {@code complaints_archive} table.
+     */
+    String ARCHIVE_COLUMNS = ComplaintRepository.COLUMNS + ", archived_at";
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT " + HOT_COLUMNS + " FROM complaints WHERE deleted = true AND id = ?1 UNION ALL " +
+            "SELECT " + ARCHIVE_COLUMNS + " FROM complaints_archive WHERE id = ?1", nativeQuery = true)
+    Optional<ArchivedComplaint> findDeletedById(UUID id);
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT " + HOT_COLUMNS + " FROM complaints WHERE deleted = true UNION ALL " +
+            "SELECT " + ARCHIVE_COLUMNS + " FROM complaints_archive", nativeQuery = true)
+    List<ArchivedComplaint> findAllDeleted();
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT " + HOT_COLUMNS + " FROM complaints WHERE id = ?1 UNION ALL " +
+            "SELECT " + ARCHIVE_COLUMNS + " FROM complaints_archive WHERE id = ?1", nativeQuery = true)
+    Optional<ArchivedComplaint> findAnyById(UUID id);
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT " + HOT_COLUMNS + " FROM complaints UNION ALL " +
+            "SELECT " + ARCHIVE_COLUMNS + " FROM complaints_archive", nativeQuery = true)
+    List<ArchivedComplaint> findAllAny();
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT (SELECT count(*) FROM complaints WHERE deleted = true) + " +
+            "(SELECT count(*) FROM complaints_archive)", nativeQuery = true)
+    long countDeleted();
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT (SELECT count(*) FROM complaints) + (SELECT count(*) FROM complaints_archive)", nativeQuery = true)
+    long countAny();
+
+    @Transactional(readOnly = true)
+    default boolean existsDeletedById(UUID id) {
+        return existsSoftDeletedById(id) || existsArchivedById(id);
+    }
+
+    @Transactional(readOnly = true)
+    default boolean existsAnyById(UUID id) {
+        return existsHotById(id) || existsArchivedById(id);
+    }
+
+    @Transactional(readOnly = true)
+    @Query("SELECT COUNT(c) >= 1 FROM Complaint c WHERE c.deleted = true AND c.id = ?1")
+    boolean existsSoftDeletedById(UUID id);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT COUNT(c) >= 1 FROM Complaint c WHERE c.id = ?1")
+    boolean existsHotById(UUID id);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT COUNT(a) >= 1 FROM ArchivedComplaint a WHERE a.id = ?1")
+    boolean existsArchivedById(UUID id);
+}
@@ -0,0 +1,82 @@
+package de.x1c1b.attoly.api.repository;
+
+import de.x1c1b.attoly.api.domain.model.ArchivedShortcut;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reads shortcuts across the hot and the archive table. The rows are mapped to the immutable
+ * {@link ArchivedShortcut}, hence they can't be modified accidentally and don't mix with the managed
+ * shortcuts of the persistence context. Rows of the hot table have no {@code archivedAt}. All lookups
+ * of deleted or any shortcuts that must include archived rows go through this repository, the methods
+ * inherited by {@link ShortcutRepository} from {@link BaseRepository} only cover the hot table.
+ */
+@Repository
+public interface ArchivedShortcutRepository extends org.springframework.data.repository.Repository<ArchivedShortcut, UUID> {
+
+    /**
+     * Columns of the {@code shortcuts} table, completed to match the {@code shortcuts_archive} table.
+     */
+    String HOT_COLUMNS = ShortcutRepository.COLUMNS + ", NULL AS archived_at";
+
+    /**
+     * Columns of the {@code shortcuts_archive} table.
+     */
+    String ARCHIVE_COLUMNS = ShortcutRepository.COLUMNS + ", archived_at";
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT " + HOT_COLUMNS + " FROM shortcuts WHERE deleted = true AND id = ?1 UNION ALL " +
+            "SELECT " + ARCHIVE_COLUMNS + " FROM shortcuts_archive WHERE id = ?1", nativeQuery = true)
+    Optional<ArchivedShortcut> findDeletedById(UUID id);
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT " + HOT_COLUMNS + " FROM shortcuts WHERE deleted = true UNION ALL " +
+            "SELECT " + ARCHIVE_COLUMNS + " FROM shortcuts_archive", nativeQuery = true)
+    List<ArchivedShortcut> findAllDeleted();
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT " + HOT_COLUMNS + " FROM shortcuts WHERE id = ?1 UNION ALL " +
+            "SELECT " + ARCHIVE_COLUMNS + " FROM shortcuts_archive WHERE id = ?1", nativeQuery = true)
+    Optional<ArchivedShortcut> findAnyById(UUID id);
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT " + HOT_COLUMNS + " FROM shortcuts UNION ALL " +
+            "SELECT " + ARCHIVE_COLUMNS + " FROM shortcuts_archive", nativeQuery = true)
+    List<ArchivedShortcut> findAllAny();
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT (SELECT count(*) FROM shortcuts WHERE deleted = true) + " +
+            "(SELECT count(*) FROM shortcuts_archive)", nativeQuery = true)
+    long countDeleted();
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT (SELECT count(*) FROM shortcuts) + (SELECT count(*) FROM shortcuts_archive)", nativeQuery = true)
+    long countAny();
+
+    @Transactional(readOnly = true)
+    default boolean existsDeletedById(UUID id) {
+        return existsSoftDeletedById(id) || existsArchivedById(id);
+    }
+
+    @Transactional(readOnly = true)
+    default boolean existsAnyById(UUID id) {
+        return existsHotById(id) || existsArchivedById(id);
+    }
+
+    @Transactional(readOnly = true)
+    @Query("SELECT COUNT(s) >= 1 FROM Shortcut s WHERE s.deleted = true AND s.id = ?1")
+    boolean existsSoftDeletedById(UUID id);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT COUNT(s) >= 1 FROM Shortcut s WHERE s.id = ?1")
+    boolean existsHotById(UUID id);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT COUNT(a) >= 1 FROM ArchivedShortcut a WHERE a.id = ?1")
+    boolean existsArchivedById(UUID id);
+}
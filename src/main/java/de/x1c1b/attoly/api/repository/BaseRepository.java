@@ -5,15 +5,18 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.util.Streamable;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +24,11 @@ import java.util.UUID;
 @NoRepositoryBean
 public interface BaseRepository<T extends BaseEntity, ID extends UUID> extends PagingAndSortingRepository<T, ID>, JpaSpecificationExecutor<T> {
 
+    /**
+     * Maximum number of identifiers passed to a single {@code IN} clause by the bulk operations.
+     */
+    int IN_BATCH_SIZE = 1000;
+
     @Override
     @Transactional(readOnly = true)
     @Query("SELECT e FROM #{#entityName} e WHERE e.deleted = false")
@@ -41,11 +49,14 @@ public interface BaseRepository<T extends BaseEntity, ID extends UUID> extends P
     @Query("SELECT count(e) FROM #{#entityName} e WHERE e.deleted = false")
     long count();
 
+    /**
+     * Checks the existence of an entity without loading it. As the identifier is unique, at most a
+     * single index entry is counted.
+     */
     @Override
     @Transactional(readOnly = true)
-    default boolean existsById(ID id) {
-        return findById(id).isPresent();
-    }
+    @Query("SELECT COUNT(e) >= 1 FROM #{#entityName} e WHERE e.deleted = false AND e.id = ?1")
+    boolean existsById(ID id);
 
     @Override
     @Transactional(readOnly = true)
@@ -57,6 +68,23 @@ public interface BaseRepository<T extends BaseEntity, ID extends UUID> extends P
     @Query("SELECT e FROM #{#entityName} e WHERE e.deleted = false")
     Page<T> findAll(Pageable pageable);
 
+    /**
+     * Loads the first slice of entities ordered from newest to oldest. In contrast to
+     * {@link #findAll(Pageable)} no count query is issued. The pageable must not be sorted.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT e FROM #{#entityName} e WHERE e.deleted = false ORDER BY e.createdAt DESC, e.id DESC")
+    Slice<T> findSlice(Pageable pageable);
+
+    /**
+     * Loads the slice of entities following the given position, ordered from newest to oldest. The
+     * position is looked up by key instead of skipping all preceding rows. The pageable must not be
+     * sorted.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT e FROM #{#entityName} e WHERE e.deleted = false AND (e.createdAt < ?1 OR (e.createdAt = ?1 AND e.id < ?2)) ORDER BY e.createdAt DESC, e.id DESC")
+    Slice<T> findSliceAfter(Instant createdAt, ID id, Pageable pageable);
+
     @Transactional
     @Modifying
     default void deleteSoftById(ID id) {
@@ -96,6 +124,45 @@ public interface BaseRepository<T extends BaseEntity, ID extends UUID> extends P
         entities.forEach(this::deleteSoft);
     }
 
+    /**
+     * Soft-deletes all entities with the given identifiers using one update statement per
+     * {@value #IN_BATCH_SIZE} identifiers. In contrast to {@link #deleteAllSoftById(Iterable)} the
+     * entities aren't loaded, missing or already deleted entities are skipped.
+     *
+     * @param ids The identifiers of the entities to delete.
+     * @return The number of deleted entities.
+     */
+    @Transactional
+    default int deleteAllSoftByIdInBatch(Iterable<? extends ID> ids) {
+        List<? extends ID> list = Streamable.of(ids).toList();
+        Instant deletedAt = Instant.now();
+        int deleted = 0;
+
+        for (int from = 0; from < list.size(); from += IN_BATCH_SIZE) {
+            deleted += deleteAllSoftByIdIn(list.subList(from, Math.min(from + IN_BATCH_SIZE, list.size())), deletedAt);
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Soft-deletes all given entities with set-based update statements, see
+     * {@link #deleteAllSoftByIdInBatch(Iterable)}.
+     *
+     * @param entities The entities to delete.
+     * @return The number of deleted entities.
+     */
+    @Transactional
+    @SuppressWarnings("unchecked")
+    default int deleteAllSoftInBatch(Iterable<? extends T> entities) {
+        return deleteAllSoftByIdInBatch(Streamable.of(entities).map(BaseEntity::getId).map(id -> (ID) id).toList());
+    }
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE #{#entityName} e SET e.deleted = true, e.deletedAt = ?2, e.lastModifiedAt = ?2, e.version = e.version + 1 WHERE e.deleted = false AND e.id IN ?1")
+    int deleteAllSoftByIdIn(Collection<? extends ID> ids, Instant deletedAt);
+
     @Transactional
     @Modifying
     @Query("UPDATE #{#entityName} e SET e.deleted = true")
@@ -118,9 +185,8 @@ public interface BaseRepository<T extends BaseEntity, ID extends UUID> extends P
     long countDeleted();
 
     @Transactional(readOnly = true)
-    default boolean existsDeletedById(ID id) {
-        return findDeletedById(id).isPresent();
-    }
+    @Query("SELECT COUNT(e) >= 1 FROM #{#entityName} e WHERE e.deleted = true AND e.id = ?1")
+    boolean existsDeletedById(ID id);
 
     @Transactional(readOnly = true)
     @Query("SELECT e FROM #{#entityName} e WHERE e.deleted = true")
@@ -147,9 +213,8 @@ public interface BaseRepository<T extends BaseEntity, ID extends UUID> extends P
     long countAny();
 
     @Transactional(readOnly = true)
-    default boolean existsAnyById(ID id) {
-        return findDeletedById(id).isPresent();
-    }
+    @Query("SELECT COUNT(e) >= 1 FROM #{#entityName} e WHERE e.id = ?1")
+    boolean existsAnyById(ID id);
 
     @Transactional(readOnly = true)
     @Query("SELECT e FROM #{#entityName} e")
@@ -3,20 +3,74 @@ package de.x1c1b.attoly.api.repository;
 import de.x1c1b.attoly.api.domain.model.Complaint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Complaints are always presented along with the tag of the reported shortcut, therefore the queries
+ * for listings and details fetch the shortcut within the same statement.
+ */
 @Repository
 public interface ComplaintRepository extends BaseRepository<Complaint, UUID> {
 
+    /**
+     * Columns shared by the {@code complaints} and {@code complaints_archive} tables.
+     */
+    String COLUMNS = "id, created_at, last_modified_at, version, deleted, deleted_at, reason, comment, shortcut";
+
+    @Override
+    @Transactional(readOnly = true)
+    @EntityGraph(Complaint.WITH_SHORTCUT)
+    @Query("SELECT c FROM Complaint c WHERE c.deleted = false")
+    List<Complaint> findAll();
+
+    @Override
+    @Transactional(readOnly = true)
+    @EntityGraph(Complaint.WITH_SHORTCUT)
+    @Query("SELECT c FROM Complaint c WHERE c.deleted = false")
+    Page<Complaint> findAll(Pageable pageable);
+
+    @Override
+    @Transactional(readOnly = true)
+    @EntityGraph(Complaint.WITH_SHORTCUT)
+    Page<Complaint> findAll(Specification<Complaint> specification, Pageable pageable);
+
+    @Override
+    @Transactional(readOnly = true)
+    @EntityGraph(Complaint.WITH_SHORTCUT)
+    @Query("SELECT c FROM Complaint c WHERE c.deleted = false ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Complaint> findSlice(Pageable pageable);
+
+    @Override
     @Transactional(readOnly = true)
+    @EntityGraph(Complaint.WITH_SHORTCUT)
+    @Query("SELECT c FROM Complaint c WHERE c.deleted = false AND (c.createdAt < ?1 OR (c.createdAt = ?1 AND c.id < ?2)) ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Complaint> findSliceAfter(Instant createdAt, UUID id, Pageable pageable);
+
+    @Override
+    @Transactional(readOnly = true)
+    @EntityGraph(Complaint.WITH_SHORTCUT)
+    @Query("SELECT c FROM Complaint c WHERE c.deleted = false AND c.id = ?1")
+    Optional<Complaint> findById(UUID id);
+
+    @Transactional(readOnly = true)
+    @EntityGraph(Complaint.WITH_SHORTCUT)
     @Query("SELECT c FROM Complaint c WHERE c.deleted = false AND c.shortcut.id = ?1")
     Page<Complaint> findByShortcut(UUID shortcutId, Pageable pageable);
 
     @Transactional(readOnly = true)
+    @EntityGraph(Complaint.WITH_SHORTCUT)
     @Query("SELECT c FROM Complaint c WHERE c.deleted = false AND c.shortcut.tag = ?1")
     Page<Complaint> findByShortcut(String tag, Pageable pageable);
 
@@ -27,4 +81,17 @@ public interface ComplaintRepository extends BaseRepository<Complaint, UUID> {
     @Transactional(readOnly = true)
     @Query("SELECT count(c) FROM Complaint c WHERE c.deleted = false AND c.shortcut.tag = ?1")
     long countByShortcut(String tag);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT c.id FROM Complaint c WHERE c.deleted = true AND c.deletedAt < ?1")
+    List<UUID> findArchivableIds(Instant deletedBefore, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO complaints_archive (" + COLUMNS + ", archived_at) " +
+            "SELECT " + COLUMNS + ", ?2 FROM complaints WHERE id IN ?1", nativeQuery = true)
+    int copyToArchive(Collection<UUID> ids, Instant archivedAt);
+
+    @Modifying
+    @Query("DELETE FROM Complaint c WHERE c.id IN ?1")
+    int deleteAllByIdIn(Collection<UUID> ids);
 }
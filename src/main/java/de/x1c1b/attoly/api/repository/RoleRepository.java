@@ -25,17 +25,14 @@ public interface RoleRepository extends BaseRepository<Role, UUID> {
     Optional<Role> findAnyByName(RoleName name);
 
     @Transactional(readOnly = true)
-    default boolean existsByName(RoleName name) {
-        return findByName(name).isPresent();
-    }
+    @Query("SELECT COUNT(r) >= 1 FROM Role r WHERE r.deleted = false AND r.name = ?1")
+    boolean existsByName(RoleName name);
 
     @Transactional(readOnly = true)
-    default boolean existsDeletedByName(RoleName name) {
-        return findDeletedByName(name).isPresent();
-    }
+    @Query("SELECT COUNT(r) >= 1 FROM Role r WHERE r.deleted = true AND r.name = ?1")
+    boolean existsDeletedByName(RoleName name);
 
     @Transactional(readOnly = true)
-    default boolean existsAnyByName(RoleName name) {
-        return findAnyByName(name).isPresent();
-    }
+    @Query("SELECT COUNT(r) >= 1 FROM Role r WHERE r.name = ?1")
+    boolean existsAnyByName(RoleName name);
 }
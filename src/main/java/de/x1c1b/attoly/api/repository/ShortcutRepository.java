@@ -1,24 +1,83 @@
 package de.x1c1b.attoly.api.repository;
 
 import de.x1c1b.attoly.api.domain.model.Shortcut;
+import de.x1c1b.attoly.api.domain.model.ShortcutView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface ShortcutRepository extends BaseRepository<Shortcut, UUID> {
 
+    /**
+     * Columns shared by the {@code shortcuts} and {@code shortcuts_archive} tables.
+     */
+    String COLUMNS = "id, created_at, last_modified_at, version, deleted, deleted_at, tag, url, created_by";
+
+    /**
+     * Constructor expression selecting a {@link ShortcutView} of the shortcut aliased with {@code s}.
+     */
+    String VIEW = "new de.x1c1b.attoly.api.domain.model.ShortcutView(s.id, s.tag, s.url, s.createdAt, " +
+            "CASE WHEN s.createdBy IS NULL THEN true ELSE false END)";
+
     @Transactional(readOnly = true)
     @Query("SELECT s FROM Shortcut s WHERE s.deleted = false AND s.tag = ?1")
     Optional<Shortcut> findByTag(String tag);
 
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query("SELECT " + VIEW + " FROM Shortcut s WHERE s.deleted = false AND s.tag = ?1")
+    Optional<ShortcutView> findViewByTag(String tag);
+
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query(value = "SELECT " + VIEW + " FROM Shortcut s WHERE s.deleted = false AND s.createdBy.email = ?1",
+            countQuery = "SELECT count(s) FROM Shortcut s WHERE s.deleted = false AND s.createdBy.email = ?1")
+    Page<ShortcutView> findViewsByOwnership(String email, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT COUNT(s) >= 1 FROM Shortcut s WHERE s.deleted = false AND s.tag = ?1 AND s.createdBy.id = ?2")
+    boolean existsByTagAndOwnership(String tag, UUID creatorId);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT s.url FROM Shortcut s WHERE s.deleted = false AND s.tag = ?1")
+    Optional<String> findUrlByTag(String tag);
+
+    /**
+     * Returns those of the given tags that are already taken, including tags of deleted and archived
+     * shortcuts.
+     */
+    @Transactional(readOnly = true)
+    default List<String> findTakenTags(Collection<String> tags) {
+        List<String> taken = new ArrayList<>(findUsedTags(tags));
+        taken.addAll(findArchivedTags(tags));
+        return taken;
+    }
+
+    @Transactional(readOnly = true)
+    @Query("SELECT s.tag FROM Shortcut s WHERE s.tag IN ?1")
+    List<String> findUsedTags(Collection<String> tags);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT a.tag FROM ArchivedShortcut a WHERE a.tag IN ?1")
+    List<String> findArchivedTags(Collection<String> tags);
+
     @Transactional(readOnly = true)
     @Query("SELECT s FROM Shortcut s WHERE s.deleted = false AND s.createdBy.id = ?1")
     Page<Shortcut> findByOwnership(UUID creatorId, Pageable pageable);
@@ -27,11 +86,51 @@ public interface ShortcutRepository extends BaseRepository<Shortcut, UUID> {
     @Query("SELECT s FROM Shortcut s WHERE s.deleted = false AND s.createdBy.email = ?1")
     Page<Shortcut> findByOwnership(String email, Pageable pageable);
 
+    /**
+     * Streams views of all shortcuts of a user with a forward-only cursor. Must be consumed within a
+     * transaction.
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT " + VIEW + " FROM Shortcut s WHERE s.deleted = false AND s.createdBy.email = ?1 ORDER BY s.createdAt")
+    Stream<ShortcutView> streamViewsByOwnership(String email);
+
+    /**
+     * Finds the oldest anonymous shortcuts created before the given date which are not yet deleted. The
+     * rows are read in the order of the {@code (created_by, deleted, created_at)} index, hence each call
+     * seeks directly to the first remaining row instead of skipping those already deleted.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT s.tag FROM Shortcut s WHERE s.deleted = false AND s.createdBy IS NULL AND s.createdAt < ?1 ORDER BY s.createdAt, s.id")
+    List<String> findAnonymousTagsCreatedBefore(Instant dateTime, Pageable pageable);
+
     @Modifying
-    @Query("UPDATE Shortcut s SET s.deleted = true WHERE s.createdBy IS NULL AND s.createdAt < ?1")
-    void deleteAllAnonymousSoftCreatedBefore(Instant dateTime);
+    @Query("UPDATE Shortcut s SET s.deleted = true, s.deletedAt = ?2, s.lastModifiedAt = ?2, s.version = s.version + 1 WHERE s.deleted = false AND s.tag IN ?1")
+    int deleteAllSoftByTagIn(Collection<String> tags, Instant deletedAt);
 
     @Modifying
     @Query("DELETE FROM Shortcut s WHERE s.createdBy IS NULL AND s.createdAt < ?1")
     void deleteAllAnonymousCreatedBefore(Instant dateTime);
+
+    /**
+     * Finds shortcuts that were soft-deleted before the given date and can be archived. Shortcuts that
+     * are still referenced by complaints, archived or not, are kept in place.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT s.id FROM Shortcut s WHERE s.deleted = true AND s.deletedAt < ?1 " +
+            "AND NOT EXISTS (SELECT c FROM Complaint c WHERE c.shortcut = s) " +
+            "AND NOT EXISTS (SELECT a FROM ArchivedComplaint a WHERE a.shortcut = s.id)")
+    List<UUID> findArchivableIds(Instant deletedBefore, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO shortcuts_archive (" + COLUMNS + ", archived_at) " +
+            "SELECT " + COLUMNS + ", ?2 FROM shortcuts WHERE id IN ?1", nativeQuery = true)
+    int copyToArchive(Collection<UUID> ids, Instant archivedAt);
+
+    @Modifying
+    @Query("DELETE FROM Shortcut s WHERE s.id IN ?1")
+    int deleteAllByIdIn(Collection<UUID> ids);
 }
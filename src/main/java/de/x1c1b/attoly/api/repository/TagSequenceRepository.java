@@ -0,0 +1,42 @@
+package de.x1c1b.attoly.api.repository;
+
+import de.x1c1b.attoly.api.domain.model.TagSequence;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface TagSequenceRepository extends CrudRepository<TagSequence, String> {
+
+    /**
+     * Leases the next range of a sequence within its own transaction, so that the row is only locked
+     * briefly. A missing sequence is created, its first range starts at 1. If another caller creates
+     * the sequence concurrently, the insert fails and the lease can be retried, as the sequence can
+     * be incremented then.
+     *
+     * @param name The sequence's unique name.
+     * @param size The number of values to lease.
+     * @return The last value of the leased range.
+     * @throws org.springframework.dao.DataIntegrityViolationException If the sequence was created concurrently.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    default long lease(String name, long size) {
+        if (incrementBy(name, size) == 0) {
+            insert(name, size);
+            return size;
+        }
+
+        return findById(name).orElseThrow().getLeasedUntil();
+    }
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TagSequence s SET s.leasedUntil = s.leasedUntil + ?2 WHERE s.name = ?1")
+    int incrementBy(String name, long size);
+
+    @Modifying
+    @Query(value = "INSERT INTO tag_sequences (name, leased_until) VALUES (?1, ?2)", nativeQuery = true)
+    void insert(String name, long leasedUntil);
+}
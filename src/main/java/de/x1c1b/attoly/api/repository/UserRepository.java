@@ -2,6 +2,7 @@ package de.x1c1b.attoly.api.repository;
 
 import de.x1c1b.attoly.api.domain.model.RoleName;
 import de.x1c1b.attoly.api.domain.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,7 +13,21 @@ import java.util.UUID;
 @Repository
 public interface UserRepository extends BaseRepository<User, UUID> {
 
+    /**
+     * Loads a single user including its roles, as needed for authentication and the user detail.
+     * Listings don't load the roles.
+     */
+    @Override
     @Transactional(readOnly = true)
+    @EntityGraph(User.WITH_ROLES)
+    @Query("SELECT u FROM User u WHERE u.deleted = false AND u.id = ?1")
+    Optional<User> findById(UUID id);
+
+    /**
+     * Loads a single user including its roles, see {@link #findById(UUID)}.
+     */
+    @Transactional(readOnly = true)
+    @EntityGraph(User.WITH_ROLES)
     @Query("SELECT u FROM User u WHERE u.deleted = false AND u.email = ?1")
     Optional<User> findByEmail(String email);
 
@@ -25,23 +40,36 @@ public interface UserRepository extends BaseRepository<User, UUID> {
     Optional<User> findAnyByEmail(String email);
 
     @Transactional(readOnly = true)
-    default boolean existsByEmail(String email) {
-        return findByEmail(email).isPresent();
-    }
+    @Query("SELECT COUNT(u) >= 1 FROM User u WHERE u.deleted = false AND u.email = ?1")
+    boolean existsByEmail(String email);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT COUNT(u) >= 1 FROM User u WHERE u.deleted = true AND u.email = ?1")
+    boolean existsDeletedByEmail(String email);
 
     @Transactional(readOnly = true)
-    default boolean existsDeletedByEmail(String email) {
-        return findDeletedByEmail(email).isPresent();
+    @Query("SELECT COUNT(u) >= 1 FROM User u WHERE u.email = ?1")
+    boolean existsAnyByEmail(String email);
+
+    @Transactional(readOnly = true)
+    default boolean existsAnyWithRoleExceptId(RoleName role, UUID id) {
+        return existsByDeletedFalseAndRolesNameAndIdNot(role, id);
     }
 
     @Transactional(readOnly = true)
-    default boolean existsAnyByEmail(String email) {
-        return findAnyByEmail(email).isPresent();
+    default boolean existsAnyWithRoleExceptEmail(RoleName role, String email) {
+        return existsByDeletedFalseAndRolesNameAndEmailNot(role, email);
     }
 
-    @Query("SELECT COUNT(u) >= 1 FROM User u INNER JOIN u.roles r WHERE u.deleted = false AND r.name = ?1 AND u.id <> ?2")
-    boolean existsAnyWithRoleExceptId(RoleName role, UUID id);
+    /**
+     * Derived existence query, which stops at the first matching user instead of counting all of them.
+     */
+    @Transactional(readOnly = true)
+    boolean existsByDeletedFalseAndRolesNameAndIdNot(RoleName role, UUID id);
 
-    @Query("SELECT COUNT(u) >= 1 FROM User u INNER JOIN u.roles r WHERE u.deleted = false AND r.name = ?1 AND u.email <> ?2")
-    boolean existsAnyWithRoleExceptEmail(RoleName role, String email);
+    /**
+     * Derived existence query, which stops at the first matching user instead of counting all of them.
+     */
+    @Transactional(readOnly = true)
+    boolean existsByDeletedFalseAndRolesNameAndEmailNot(RoleName role, String email);
 }
@@ -2,24 +2,38 @@ package de.x1c1b.attoly.api.repository.auditing;
 
 import de.x1c1b.attoly.api.domain.model.User;
 import de.x1c1b.attoly.api.security.Principal;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
 import java.util.Optional;
 
+/**
+ * Resolves the current user as auditor. Instead of the user held by the principal, which may be cached or
+ * built from token claims, a reference bound to the current persistence context is returned.
+ */
 @Component
 @Primary
 public class PrincipalAuditorAware implements AuditorAware<User> {
 
+    private final EntityManager entityManager;
+
+    @Autowired
+    public PrincipalAuditorAware(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
     @Override
     public Optional<User> getCurrentAuditor() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (null != authentication && authentication.getPrincipal() instanceof Principal principal) {
-            return Optional.ofNullable(principal.getUser());
+            return Optional.ofNullable(principal.getUser())
+                    .map(user -> entityManager.getReference(User.class, user.getId()));
         }
 
         return Optional.empty();
@@ -0,0 +1,43 @@
+package de.x1c1b.attoly.api.repository.id;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Generates identifiers using the strategy selected by the Hibernate setting {@value #UUID_GENERATOR}.
+ * Either <code>time-ordered</code> (default) for version 7 UUIDs, see {@link TimeOrderedUUIDGenerator},
+ * or <code>random</code> for version 4 UUIDs.
+ */
+public class ConfigurableUUIDGenerator implements IdentifierGenerator {
+
+    public static final String UUID_GENERATOR = "attoly.uuid_generator";
+
+    private Supplier<UUID> strategy = TimeOrderedUUIDGenerator::generate;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        String name = serviceRegistry.getService(ConfigurationService.class)
+                .getSetting(UUID_GENERATOR, StandardConverters.STRING, "time-ordered");
+
+        strategy = switch (name.toLowerCase()) {
+            case "time-ordered" -> TimeOrderedUUIDGenerator::generate;
+            case "random" -> UUID::randomUUID;
+            default -> throw new MappingException(String.format("Unsupported UUID generator '%s'", name));
+        };
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return strategy.get();
+    }
+}
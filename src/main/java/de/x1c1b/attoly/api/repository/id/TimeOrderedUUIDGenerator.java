@@ -0,0 +1,53 @@
+package de.x1c1b.attoly.api.repository.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.io.Serializable;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates time-ordered UUIDs (version 7), so that new rows are appended to the end of primary key
+ * indexes instead of being inserted at random positions. The most significant bits hold the creation
+ * time in milliseconds followed by a counter, which keeps identifiers generated within the same
+ * millisecond monotonic. The remaining bits are random.
+ */
+public class TimeOrderedUUIDGenerator implements IdentifierGenerator {
+
+    private static final int COUNTER_BITS = 12;
+
+    private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return generate();
+    }
+
+    public static UUID generate() {
+        long timestamp = nextTimestamp();
+        long mostSigBits = ((timestamp >>> COUNTER_BITS) << 16) | 0x7000L | (timestamp & 0xFFFL);
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Returns the current time in milliseconds shifted by the counter bits. If called again within the
+     * same millisecond, the counter is incremented. On overflow, the counter carries over to the
+     * timestamp, which then runs slightly ahead of the clock.
+     */
+    private static long nextTimestamp() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+
+        while (true) {
+            long last = LAST_TIMESTAMP.get();
+            long next = Math.max(now, last + 1);
+
+            if (LAST_TIMESTAMP.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
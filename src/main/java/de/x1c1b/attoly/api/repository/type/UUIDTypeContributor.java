@@ -0,0 +1,56 @@
+package de.x1c1b.attoly.api.repository.type;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.boot.model.TypeContributor;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.UUIDBinaryType;
+import org.hibernate.type.UUIDCharType;
+
+import java.util.UUID;
+
+/**
+ * Registers the type used for storing identifiers, either as character sequence (default) or as compact
+ * binary. The storage is selected by the Hibernate setting {@value #UUID_STORAGE}. Changing it requires
+ * migrating the existing database schema. The type is also registered for {@link UUID} itself, so that
+ * identifiers bound to native queries are stored the same way.
+ */
+public class UUIDTypeContributor implements TypeContributor {
+
+    public static final String TYPE_NAME = "attoly-uuid";
+    public static final String UUID_STORAGE = "attoly.uuid_storage";
+
+    @Override
+    public void contribute(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
+        String storage = serviceRegistry.getService(ConfigurationService.class)
+                .getSetting(UUID_STORAGE, StandardConverters.STRING, "char");
+
+        switch (storage.toLowerCase()) {
+            case "char" -> typeContributions.contributeType(new CharType());
+            case "binary" -> typeContributions.contributeType(new BinaryType());
+            default -> throw new HibernateException(String.format("Unsupported UUID storage '%s'", storage));
+        }
+    }
+
+    private static String[] registrationKeys() {
+        return new String[]{TYPE_NAME, UUID.class.getName()};
+    }
+
+    static class CharType extends UUIDCharType {
+
+        @Override
+        public String[] getRegistrationKeys() {
+            return registrationKeys();
+        }
+    }
+
+    static class BinaryType extends UUIDBinaryType {
+
+        @Override
+        public String[] getRegistrationKeys() {
+            return registrationKeys();
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package de.x1c1b.attoly.api.security;
 
+import de.x1c1b.attoly.api.domain.model.Role;
+import de.x1c1b.attoly.api.domain.model.RoleName;
 import de.x1c1b.attoly.api.domain.model.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -11,6 +14,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @AllArgsConstructor
@@ -19,14 +23,20 @@ import java.util.stream.Collectors;
 @Builder
 public class Principal implements UserDetails, OAuth2User {
 
+    /**
+     * Authorities by role combination. As there are only a few roles, all principals with the same
+     * roles share a single immutable set.
+     */
+    private static final Map<Set<RoleName>, Set<GrantedAuthority>> AUTHORITIES = new ConcurrentHashMap<>();
+
     private User user;
     private String name;
 
     @Builder.Default
     private Map<String, Object> attributes = new HashMap<>();
 
-    @Builder.Default
-    private Set<GrantedAuthority> authorities = new HashSet<>();
+    @EqualsAndHashCode.Exclude
+    private Set<GrantedAuthority> authorities;
 
     public Principal(User user) {
         this.user = user;
@@ -37,11 +47,27 @@ public class Principal implements UserDetails, OAuth2User {
         this.attributes = attributes;
     }
 
+    /**
+     * Resolves the authorities of the user's roles once. Later changes of the roles are not reflected,
+     * instead a new principal is loaded.
+     */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream()
-                .map((role) -> new SimpleGrantedAuthority(role.getName().name()))
-                .collect(Collectors.toSet());
+        if (null == authorities) {
+            authorities = internAuthorities(user.getRoles());
+        }
+
+        return authorities;
+    }
+
+    private static Set<GrantedAuthority> internAuthorities(Collection<Role> roles) {
+        Set<RoleName> names = roles.stream()
+                .map(Role::getName)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(RoleName.class)));
+
+        return AUTHORITIES.computeIfAbsent(names, key -> key.stream()
+                .map(name -> new SimpleGrantedAuthority(name.name()))
+                .collect(Collectors.toUnmodifiableSet()));
     }
 
     @Override
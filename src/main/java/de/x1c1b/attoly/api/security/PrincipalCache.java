@@ -0,0 +1,77 @@
+package de.x1c1b.attoly.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.x1c1b.attoly.api.domain.event.UserAccessChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded in-memory cache of principals by email, so that requests authenticated by access token don't
+ * load the user from the database each time. Entries expire after a few seconds, thus changes made on
+ * other instances are picked up shortly. Changes made on this instance evict the principal immediately
+ * and again after the commit. Passwords are never verified against cached principals. Cached
+ * principals must not be handed out directly, but copied, see {@link PrincipalService}.
+ */
+@Component
+public class PrincipalCache {
+
+    public static final String CACHE_NAME = "principals";
+
+    private final PrincipalCacheProperties properties;
+    private final Cache<String, Principal> cache;
+
+    @Autowired
+    public PrincipalCache(PrincipalCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpiresIn(), TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Loads the principal of a user from the cache. Concurrent lookups of the same user wait for a
+     * single load.
+     *
+     * @param email  The user's unique email.
+     * @param loader Loads the principal if it isn't cached.
+     * @return The principal.
+     */
+    public Principal get(String email, Function<String, Principal> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(email);
+        }
+
+        return cache.get(email, loader);
+    }
+
+    /**
+     * Removes the principal of a user from the cache.
+     *
+     * @param email The user's unique email.
+     */
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+
+    @EventListener
+    void onUserAccessChanged(UserAccessChangedEvent event) {
+        evict(event.getEmail());
+    }
+
+    @TransactionalEventListener
+    void afterUserAccessChanged(UserAccessChangedEvent event) {
+        evict(event.getEmail());
+    }
+}
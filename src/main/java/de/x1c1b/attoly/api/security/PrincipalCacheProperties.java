@@ -0,0 +1,26 @@
+package de.x1c1b.attoly.api.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "attoly.cache.principal")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class PrincipalCacheProperties {
+
+    @Builder.Default
+    private boolean enabled = true;
+
+    @Builder.Default
+    private long maximumSize = 10000L;
+
+    @Builder.Default
+    private long expiresIn = 5000L; // 5 seconds
+}
@@ -1,5 +1,7 @@
 package de.x1c1b.attoly.api.security;
 
+import de.x1c1b.attoly.api.domain.model.Role;
+import de.x1c1b.attoly.api.domain.model.User;
 import de.x1c1b.attoly.api.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
@@ -8,23 +10,61 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.stream.Collectors;
+
 @Service
 @Primary
 public class PrincipalService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Autowired
-    public PrincipalService(UserRepository userRepository) {
+    public PrincipalService(UserRepository userRepository, PrincipalCache principalCache) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
+    /**
+     * Loads the principal from the database, e.g. for verifying a password. Thus, changes of the
+     * password or account made on other instances apply immediately.
+     */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return loadUserByEmail(username);
     }
 
     public Principal loadUserByEmail(String email) throws EmailNotFoundException {
-        return userRepository.findByEmail(email).map(Principal::new).orElseThrow(() -> new EmailNotFoundException(email));
+        return userRepository.findByEmail(email)
+                .map(Principal::new)
+                .orElseThrow(() -> new EmailNotFoundException(email));
+    }
+
+    /**
+     * Loads the principal from the {@link PrincipalCache}, only intended for authenticating access tokens,
+     * which are short-lived anyway. Each call returns a copy, so that the cached principal isn't shared
+     * between requests.
+     *
+     * @param email The user's unique email.
+     * @return The copy of the cached principal.
+     */
+    public Principal loadCachedUserByEmail(String email) throws EmailNotFoundException {
+        return copyOf(principalCache.get(email, this::loadUserByEmail));
+    }
+
+    private static Principal copyOf(Principal principal) {
+        User user = principal.getUser();
+
+        return new Principal(User.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .emailVerified(user.isEmailVerified())
+                .locked(user.isLocked())
+                .identityProvider(user.getIdentityProvider())
+                .identityProviderId(user.getIdentityProviderId())
+                .roles(user.getRoles().stream()
+                        .map(role -> Role.builder().id(role.getId()).name(role.getName()).build())
+                        .collect(Collectors.toSet()))
+                .build());
     }
 }
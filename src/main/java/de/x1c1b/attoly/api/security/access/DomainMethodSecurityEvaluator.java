@@ -1,6 +1,5 @@
 package de.x1c1b.attoly.api.security.access;
 
-import de.x1c1b.attoly.api.domain.model.Shortcut;
 import de.x1c1b.attoly.api.repository.ShortcutRepository;
 import de.x1c1b.attoly.api.security.Principal;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,7 +7,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -60,8 +58,6 @@ public class DomainMethodSecurityEvaluator {
      */
     public boolean isShortcutOwnerOf(String tag) {
         Principal principal = getPrincipal();
-        Optional<Shortcut> optionalShortcut = shortcutRepository.findByTag(tag);
-
-        return optionalShortcut.isPresent() && principal.getUser().getId().equals(optionalShortcut.get().getCreatedBy().getId());
+        return shortcutRepository.existsByTagAndOwnership(tag, principal.getUser().getId());
     }
 }
@@ -1,10 +1,16 @@
 package de.x1c1b.attoly.api.security.token;
 
+import de.x1c1b.attoly.api.domain.model.RoleName;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
@@ -14,4 +20,19 @@ public class AccessToken implements Token {
     private String rawToken;
     private long expiresIn;
     private String principal;
+    private Instant issuedAt;
+    private UUID userId;
+    private boolean locked;
+    private boolean emailVerified;
+
+    @Builder.Default
+    private Set<RoleName> roles = new HashSet<>();
+
+    /**
+     * Checks whether the token carries the claims needed to authenticate without loading the user.
+     * Tokens issued by former versions only carry the subject.
+     */
+    public boolean isSelfContained() {
+        return userId != null;
+    }
 }
@@ -1,5 +1,6 @@
 package de.x1c1b.attoly.api.security.token;
 
+import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -7,6 +8,9 @@ import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Component
 @ConfigurationProperties(prefix = "attoly.security.token")
 @AllArgsConstructor
@@ -27,10 +31,25 @@ public class TokenProperties {
     @Builder
     public static class AccessTokenProperties {
 
+        @Builder.Default
+        private SignatureAlgorithm algorithm = SignatureAlgorithm.HS512; // HMAC (secret) or elliptic curve (key pair)
+
         private String secret;
 
+        private String privateKey; // PKCS#8, only used by elliptic curve algorithms
+
+        private String publicKey; // X.509, only used by elliptic curve algorithms
+
+        private String keyId; // Identifies the secret in the header of issued tokens
+
+        @Builder.Default
+        private Map<String, String> verificationKeys = new HashMap<>(); // Former secrets or public keys by key id, still accepted
+
         @Builder.Default
         private long expiresIn = 300000L; // 5 minutes
+
+        @Builder.Default
+        private boolean stateless = false; // Load the principal from the database per request
     }
 
     @AllArgsConstructor
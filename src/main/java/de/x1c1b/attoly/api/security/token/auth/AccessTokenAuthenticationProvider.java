@@ -1,28 +1,53 @@
 package de.x1c1b.attoly.api.security.token.auth;
 
+import de.x1c1b.attoly.api.domain.model.Role;
+import de.x1c1b.attoly.api.domain.model.User;
+import de.x1c1b.attoly.api.security.Principal;
 import de.x1c1b.attoly.api.security.token.AccessToken;
+import de.x1c1b.attoly.api.security.token.InvalidTokenException;
 import de.x1c1b.attoly.api.security.token.TokenProvider;
+import de.x1c1b.attoly.api.security.token.jwt.AccessTokenRevocationStore;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
+import java.util.stream.Collectors;
+
+/**
+ * Authenticates requests by their access token. By default, the principal is loaded from the database.
+ * In stateless mode, the principal is built from the claims of the token instead, tokens issued before
+ * a change of the user's access are rejected by means of the {@link AccessTokenRevocationStore}. If
+ * the revocation can't be checked, the principal is loaded from the database as in the default mode.
+ */
 @NoArgsConstructor
 @Setter
 public class AccessTokenAuthenticationProvider implements AuthenticationProvider {
 
+    private final Logger logger = LoggerFactory.getLogger(AccessTokenAuthenticationProvider.class);
+
     private UserDetailsService userDetailsService;
     private TokenProvider<AccessToken> accessTokenProvider;
+    private AccessTokenRevocationStore accessTokenRevocationStore;
+    private boolean stateless;
 
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
         String rawToken = (String) authentication.getCredentials();
 
         AccessToken accessToken = accessTokenProvider.validateToken(rawToken);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(accessToken.getPrincipal());
+        UserDetails userDetails = loadPrincipal(accessToken);
+
+        if (!userDetails.isAccountNonLocked()) {
+            throw new LockedException("User account is locked");
+        }
 
         return new AccessTokenAuthenticationToken(userDetails, rawToken, userDetails.getAuthorities());
     }
@@ -31,4 +56,35 @@ public class AccessTokenAuthenticationProvider implements AuthenticationProvider
     public boolean supports(Class<?> authentication) {
         return (AccessTokenAuthenticationToken.class.isAssignableFrom(authentication));
     }
+
+    private UserDetails loadPrincipal(AccessToken accessToken) {
+        if (stateless && accessToken.isSelfContained()) {
+            try {
+                if (accessTokenRevocationStore.isRevoked(accessToken.getUserId(), accessToken.getIssuedAt())) {
+                    throw new InvalidTokenException("Revoked token");
+                }
+
+                return loadPrincipalFromClaims(accessToken);
+            } catch (DataAccessException exc) {
+                // Neither trusts possibly revoked claims nor rejects valid tokens, the database stays authoritative
+                logger.warn("Failed to check the revocation of an access token, loading the principal instead", exc);
+            }
+        }
+
+        return userDetailsService.loadUserByUsername(accessToken.getPrincipal());
+    }
+
+    private Principal loadPrincipalFromClaims(AccessToken accessToken) {
+        User user = User.builder()
+                .id(accessToken.getUserId())
+                .email(accessToken.getPrincipal())
+                .locked(accessToken.isLocked())
+                .emailVerified(accessToken.isEmailVerified())
+                .roles(accessToken.getRoles().stream()
+                        .map(name -> Role.builder().name(name).build())
+                        .collect(Collectors.toSet()))
+                .build();
+
+        return new Principal(user);
+    }
 }
@@ -0,0 +1,79 @@
+package de.x1c1b.attoly.api.security.token.jwt;
+
+import de.x1c1b.attoly.api.domain.event.UserAccessChangedEvent;
+import de.x1c1b.attoly.api.security.token.TokenProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of users whose access tokens were issued before a change of their access, e.g. before
+ * they were locked or their roles changed. As such tokens carry outdated claims, they are rejected if
+ * the principal is built from the claims alone. A revocation is kept as long as an access token is
+ * valid, so that only a single Redis lookup is needed per request instead of loading the user. The
+ * store is only needed, and thus only registered, in stateless mode.
+ */
+@Component
+@ConditionalOnProperty(prefix = "attoly.security.token.access", name = "stateless", havingValue = "true")
+public class AccessTokenRevocationStore {
+
+    public static final String KEY_PREFIX = "AccessTokenRevocation:";
+
+    private final Logger logger = LoggerFactory.getLogger(AccessTokenRevocationStore.class);
+
+    private final TokenProperties tokenProperties;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    public AccessTokenRevocationStore(TokenProperties tokenProperties, RedisTemplate<String, Object> redisTemplate) {
+        this.tokenProperties = tokenProperties;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Revokes all access tokens of the user issued before now, with a precision of milliseconds.
+     *
+     * @param userId The user's unique identifier.
+     */
+    public void revokeAll(UUID userId) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + userId, String.valueOf(Instant.now().toEpochMilli()),
+                tokenProperties.getAccess().getExpiresIn(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks whether an access token of the user issued at the given point in time was revoked.
+     *
+     * @param userId   The user's unique identifier.
+     * @param issuedAt The point in time the token was issued.
+     * @return Whether the token was revoked.
+     * @throws DataAccessException If Redis is not available.
+     */
+    public boolean isRevoked(UUID userId, Instant issuedAt) throws DataAccessException {
+        Object revokedAt = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+
+        return Objects.nonNull(revokedAt) && issuedAt.isBefore(Instant.ofEpochMilli(Long.parseLong(revokedAt.toString())));
+    }
+
+    /**
+     * Revokes the tokens once the change of access was committed. If Redis isn't available, the change
+     * itself still succeeds, tokens issued before it remain valid until they expire.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    void onUserAccessChanged(UserAccessChangedEvent event) {
+        try {
+            revokeAll(event.getUserId());
+        } catch (DataAccessException exc) {
+            logger.error("Failed to revoke the access tokens of user {}", event.getUserId(), exc);
+        }
+    }
+}
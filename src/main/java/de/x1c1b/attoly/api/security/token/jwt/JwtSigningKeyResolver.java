@@ -0,0 +1,168 @@
+package de.x1c1b.attoly.api.security.token.jwt;
+
+import de.x1c1b.attoly.api.security.token.TokenProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.impl.TextCodec;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds the keys of the access tokens, derived once from the configured secrets or key pairs. Tokens
+ * are signed with the current key and carry its identifier in the {@code kid} header, so that they
+ * can still be verified after the current key was rotated and the former one was kept as verification
+ * key. Tokens without key identifier are verified with the current key. With an asymmetric algorithm,
+ * only the public keys are needed for verification, which can thus be published. The resolver is
+ * immutable and thus can be shared by all threads.
+ */
+public class JwtSigningKeyResolver extends SigningKeyResolverAdapter {
+
+    private final SignatureAlgorithm algorithm;
+    private final String signingKeyId;
+    private final Key signingKey;
+    private final Key verificationKey;
+    private final Map<String, Key> verificationKeys;
+
+    private JwtSigningKeyResolver(SignatureAlgorithm algorithm,
+                                  String signingKeyId,
+                                  Key signingKey,
+                                  Key verificationKey,
+                                  Map<String, Key> formerVerificationKeys) {
+        this.algorithm = algorithm;
+        this.signingKeyId = signingKeyId;
+        this.signingKey = signingKey;
+        this.verificationKey = verificationKey;
+
+        Map<String, Key> keys = new HashMap<>(formerVerificationKeys);
+
+        if (null != signingKeyId) {
+            keys.put(signingKeyId, verificationKey);
+        }
+
+        this.verificationKeys = Map.copyOf(keys);
+    }
+
+    /**
+     * Derives the keys from the access token settings. HMAC algorithms use the Base64 encoded secrets,
+     * elliptic curve algorithms use Base64 or PEM encoded PKCS#8 private and X.509 public keys.
+     *
+     * @param properties The access token settings.
+     * @return The resolver holding the derived keys.
+     */
+    public static JwtSigningKeyResolver of(TokenProperties.AccessTokenProperties properties) {
+        SignatureAlgorithm algorithm = properties.getAlgorithm();
+        Map<String, Key> formerKeys = new HashMap<>();
+
+        if (algorithm.isHmac()) {
+            Key key = deriveSecretKey(algorithm, Objects.requireNonNull(properties.getSecret(),
+                    "The access token secret must be configured"));
+            properties.getVerificationKeys().forEach((keyId, secret) -> formerKeys.put(keyId, deriveSecretKey(algorithm, secret)));
+
+            return new JwtSigningKeyResolver(algorithm, properties.getKeyId(), key, key, formerKeys);
+        }
+
+        if (algorithm.isEllipticCurve()) {
+            if (null == properties.getKeyId()) {
+                throw new IllegalStateException("A key id must be configured for asymmetrically signed access tokens");
+            }
+
+            Key privateKey = decodePrivateKey(Objects.requireNonNull(properties.getPrivateKey(),
+                    "The access token private key must be configured"));
+            Key publicKey = decodePublicKey(Objects.requireNonNull(properties.getPublicKey(),
+                    "The access token public key must be configured"));
+            properties.getVerificationKeys().forEach((keyId, key) -> formerKeys.put(keyId, decodePublicKey(key)));
+
+            return new JwtSigningKeyResolver(algorithm, properties.getKeyId(), privateKey, publicKey, formerKeys);
+        }
+
+        throw new IllegalStateException(String.format("Unsupported access token algorithm '%s'", algorithm));
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public String getSigningKeyId() {
+        return signingKeyId;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * Lists all keys tokens can be verified with, if they may be published.
+     *
+     * @return The public keys by their identifiers, empty if a symmetric algorithm is used.
+     */
+    public Map<String, PublicKey> getPublicKeys() {
+        Map<String, PublicKey> keys = new HashMap<>();
+
+        verificationKeys.forEach((keyId, key) -> {
+            if (key instanceof PublicKey publicKey) {
+                keys.put(keyId, publicKey);
+            }
+        });
+
+        return keys;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        // Prevents tokens signed with a different algorithm than the configured one, e.g. with the public key as HMAC secret
+        if (!algorithm.getValue().equals(header.getAlgorithm())) {
+            throw new SignatureException(String.format("Unexpected algorithm '%s'", header.getAlgorithm()));
+        }
+
+        String keyId = header.getKeyId();
+
+        if (null == keyId) {
+            return verificationKey;
+        }
+
+        Key key = verificationKeys.get(keyId);
+
+        if (null == key) {
+            throw new SignatureException(String.format("Unknown key id '%s'", keyId));
+        }
+
+        return key;
+    }
+
+    private static Key deriveSecretKey(SignatureAlgorithm algorithm, String secret) {
+        return new SecretKeySpec(TextCodec.BASE64.decode(secret), algorithm.getJcaName());
+    }
+
+    private static Key decodePrivateKey(String key) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(decodePem(key)));
+        } catch (GeneralSecurityException exc) {
+            throw new IllegalStateException("Invalid access token private key", exc);
+        }
+    }
+
+    private static Key decodePublicKey(String key) {
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(decodePem(key)));
+        } catch (GeneralSecurityException exc) {
+            throw new IllegalStateException("Invalid access token public key", exc);
+        }
+    }
+
+    private static byte[] decodePem(String key) {
+        return Base64.getMimeDecoder().decode(key.replaceAll("-----(BEGIN|END) [A-Z ]+-----", ""));
+    }
+}
@@ -1,41 +1,76 @@
 package de.x1c1b.attoly.api.security.token.jwt;
 
+import de.x1c1b.attoly.api.domain.model.RoleName;
 import de.x1c1b.attoly.api.security.Principal;
 import de.x1c1b.attoly.api.security.token.AccessToken;
 import de.x1c1b.attoly.api.security.token.InvalidTokenException;
 import de.x1c1b.attoly.api.security.token.TokenProperties;
 import de.x1c1b.attoly.api.security.token.TokenProvider;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import java.util.Date;
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Component
 @Primary
 public class JwtTokenProvider implements TokenProvider<AccessToken> {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "roles";
+    public static final String LOCKED_CLAIM = "locked";
+    public static final String EMAIL_VERIFIED_CLAIM = "verified";
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
     private final TokenProperties tokenProperties;
+    private final JwtSigningKeyResolver signingKeyResolver;
+    private final JwtParser parser;
 
     @Autowired
     public JwtTokenProvider(TokenProperties tokenProperties) {
         this.tokenProperties = tokenProperties;
+        this.signingKeyResolver = JwtSigningKeyResolver.of(tokenProperties.getAccess());
+
+        // The parser is only configured here and merely read afterwards, thus it's shared by all requests
+        this.parser = Jwts.parser().setSigningKeyResolver(signingKeyResolver);
     }
 
     @Override
     public AccessToken generateToken(Authentication authentication) {
         Principal user = (Principal) authentication.getPrincipal();
 
-        String rawToken = Jwts.builder()
+        long now = System.currentTimeMillis();
+
+        JwtBuilder builder = Jwts.builder();
+
+        if (null != signingKeyResolver.getSigningKeyId()) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKeyResolver.getSigningKeyId());
+        }
+
+        String rawToken = builder
                 .setSubject(user.getUsername())
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(new Date().getTime() + tokenProperties.getAccess().getExpiresIn()))
-                .signWith(SignatureAlgorithm.HS512, tokenProperties.getAccess().getSecret())
+                .claim(USER_ID_CLAIM, user.getUser().getId().toString())
+                .claim(ROLES_CLAIM, user.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .toList())
+                .claim(LOCKED_CLAIM, user.getUser().isLocked())
+                .claim(EMAIL_VERIFIED_CLAIM, user.getUser().isEmailVerified())
+                .setIssuedAt(new Date(now))
+                // The standard issue date is in seconds, revocations must be compared with milliseconds
+                .claim(ISSUED_AT_MILLIS_CLAIM, now)
+                .setExpiration(new Date(now + tokenProperties.getAccess().getExpiresIn()))
+                .signWith(signingKeyResolver.getAlgorithm(), signingKeyResolver.getSigningKey())
                 .compact();
 
         return AccessToken.builder()
@@ -48,17 +83,63 @@ public class JwtTokenProvider implements TokenProvider<AccessToken> {
     @Override
     public AccessToken validateToken(String rawToken) {
         try {
-            Claims claims = Jwts.parser().setSigningKey(tokenProperties.getAccess().getSecret())
-                    .parseClaimsJws(rawToken)
-                    .getBody();
+            Claims claims = parser.parseClaimsJws(rawToken).getBody();
 
             return AccessToken.builder()
                     .rawToken(rawToken)
-                    .expiresIn(claims.getExpiration().getTime() - new Date().getTime())
+                    .expiresIn(claims.getExpiration().getTime() - System.currentTimeMillis())
                     .principal(claims.getSubject())
+                    .issuedAt(parseIssuedAt(claims))
+                    .userId(parseUserId(claims))
+                    .roles(parseRoles(claims))
+                    .locked(Boolean.TRUE.equals(claims.get(LOCKED_CLAIM, Boolean.class)))
+                    .emailVerified(Boolean.TRUE.equals(claims.get(EMAIL_VERIFIED_CLAIM, Boolean.class)))
                     .build();
-        } catch (JwtException exc) {
+        } catch (JwtException | IllegalArgumentException exc) {
             throw new InvalidTokenException("Invalid token", exc);
         }
     }
+
+    /**
+     * Lists the keys third parties can verify access tokens with, e.g. to publish them as JWKS.
+     *
+     * @return The public keys by their identifiers, empty if tokens are signed symmetrically.
+     */
+    public Map<String, PublicKey> getPublicKeys() {
+        return signingKeyResolver.getPublicKeys();
+    }
+
+    private Instant parseIssuedAt(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+
+        if (null != issuedAtMillis) {
+            return Instant.ofEpochMilli(issuedAtMillis);
+        }
+
+        // Without an issue date, the token can't be checked against revocations
+        Date issuedAt = claims.getIssuedAt();
+
+        if (null == issuedAt) {
+            throw new InvalidTokenException("Token without issue date");
+        }
+
+        return issuedAt.toInstant();
+    }
+
+    private UUID parseUserId(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        return null != userId ? UUID.fromString(userId) : null;
+    }
+
+    private Set<RoleName> parseRoles(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+
+        if (null == roles) {
+            return new HashSet<>();
+        }
+
+        return roles.stream()
+                .map(role -> RoleName.valueOf(role.toString()))
+                .collect(Collectors.toSet());
+    }
 }
@@ -0,0 +1,71 @@
+package de.x1c1b.attoly.api.web;
+
+import de.x1c1b.attoly.api.security.token.jwt.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigInteger;
+import java.security.interfaces.ECPublicKey;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the public keys of the access tokens as JSON Web Key Set (RFC 7517), so that proxies and
+ * other services can verify access tokens locally instead of calling the API. If access tokens are
+ * signed symmetrically, the key set is empty, as the secret must not be published.
+ */
+@RestController
+public class JwksController {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    public JwksController(JwtTokenProvider jwtTokenProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    ResponseEntity<Map<String, Object>> findAll() {
+        List<Map<String, Object>> keys = jwtTokenProvider.getPublicKeys().entrySet().stream()
+                .filter(entry -> entry.getValue() instanceof ECPublicKey)
+                .map(entry -> mapToJwk(entry.getKey(), (ECPublicKey) entry.getValue()))
+                .toList();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic())
+                .body(Map.of("keys", keys));
+    }
+
+    private Map<String, Object> mapToJwk(String keyId, ECPublicKey publicKey) {
+        int fieldSize = publicKey.getParams().getCurve().getField().getFieldSize();
+        int length = (fieldSize + 7) / 8;
+
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES" + (fieldSize == 521 ? 512 : fieldSize));
+        jwk.put("kid", keyId);
+        jwk.put("crv", "P-" + fieldSize);
+        jwk.put("x", encodeCoordinate(publicKey.getW().getAffineX(), length));
+        jwk.put("y", encodeCoordinate(publicKey.getW().getAffineY(), length));
+
+        return jwk;
+    }
+
+    private String encodeCoordinate(BigInteger coordinate, int length) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] padded = new byte[length];
+
+        // Strips the sign byte or left-pads with zeros to the fixed length of the curve
+        int copied = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copied, padded, length - copied, copied);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(padded);
+    }
+}
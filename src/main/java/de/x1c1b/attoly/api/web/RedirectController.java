@@ -0,0 +1,39 @@
+package de.x1c1b.attoly.api.web;
+
+import de.x1c1b.attoly.api.domain.ShortcutService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Resolves shortcuts directly into HTTP redirects. Unlike the RESTful API, this endpoint neither maps
+ * nor serializes the shortcut, it only answers with the target URL in the <code>Location</code> header.
+ * Requests to this endpoint bypass the security filter chain entirely.
+ */
+@RestController
+public class RedirectController {
+
+    private final ShortcutService shortcutService;
+    private final HttpStatus redirectStatus;
+
+    @Autowired
+    public RedirectController(ShortcutService shortcutService,
+                              @Value("${attoly.web.redirect.permanent:false}") boolean permanentRedirect) {
+        this.shortcutService = shortcutService;
+        this.redirectStatus = permanentRedirect ? HttpStatus.MOVED_PERMANENTLY : HttpStatus.FOUND;
+    }
+
+    @GetMapping("/r/{tag}")
+    ResponseEntity<Void> redirect(@PathVariable("tag") String tag) {
+        String url = shortcutService.findUrlByTag(tag);
+
+        return ResponseEntity.status(redirectStatus)
+                .header(HttpHeaders.LOCATION, url)
+                .build();
+    }
+}
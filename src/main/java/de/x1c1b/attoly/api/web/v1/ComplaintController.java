@@ -8,11 +8,14 @@ import de.x1c1b.attoly.api.repository.rsql.JpaRSQLOperator;
 import de.x1c1b.attoly.api.repository.rsql.JpaRSQLVisitor;
 import de.x1c1b.attoly.api.web.v1.dto.ComplaintCreationDto;
 import de.x1c1b.attoly.api.web.v1.dto.ComplaintDto;
+import de.x1c1b.attoly.api.web.v1.dto.CursorPageDto;
 import de.x1c1b.attoly.api.web.v1.dto.PageDto;
 import de.x1c1b.attoly.api.web.v1.dto.mapper.ComplaintMapper;
+import de.x1c1b.attoly.api.web.v1.dto.mapper.CursorMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -28,11 +31,15 @@ public class ComplaintController {
 
     private final ComplaintService complaintService;
     private final ComplaintMapper complaintMapper;
+    private final CursorMapper cursorMapper;
 
     @Autowired
-    public ComplaintController(ComplaintService complaintService, ComplaintMapper complaintMapper) {
+    public ComplaintController(ComplaintService complaintService,
+                               ComplaintMapper complaintMapper,
+                               CursorMapper cursorMapper) {
         this.complaintService = complaintService;
         this.complaintMapper = complaintMapper;
+        this.cursorMapper = cursorMapper;
     }
 
     @GetMapping("/complaints")
@@ -50,6 +57,16 @@ public class ComplaintController {
         }
     }
 
+    @GetMapping(value = "/complaints", params = {"after", "!filter"})
+    @PreAuthorize("hasAnyRole('ADMIN', 'MODERATOR')")
+    CursorPageDto<ComplaintDto> findAllAfter(@PageableDefault Pageable pageable,
+                                             @RequestParam("after") String after) {
+        CursorMapper.Cursor cursor = cursorMapper.decode(after);
+        Slice<Complaint> reports = complaintService.findAllAfter(cursor.getCreatedAt(), cursor.getId(), pageable.getPageSize());
+
+        return cursorMapper.mapToDto(reports, complaintMapper::mapToDto);
+    }
+
     @GetMapping("/complaints/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MODERATOR')")
     ComplaintDto findById(@PathVariable("id") UUID id) {
@@ -1,40 +1,113 @@
 package de.x1c1b.attoly.api.web.v1;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import cz.jirutka.rsql.parser.RSQLParser;
 import cz.jirutka.rsql.parser.ast.Node;
 import de.x1c1b.attoly.api.domain.ShortcutService;
 import de.x1c1b.attoly.api.domain.model.Shortcut;
+import de.x1c1b.attoly.api.domain.model.ShortcutView;
 import de.x1c1b.attoly.api.domain.payload.ShortcutCreationPayload;
 import de.x1c1b.attoly.api.repository.rsql.JpaRSQLOperator;
 import de.x1c1b.attoly.api.repository.rsql.JpaRSQLVisitor;
 import de.x1c1b.attoly.api.security.CurrentPrincipal;
 import de.x1c1b.attoly.api.security.Principal;
+import de.x1c1b.attoly.api.web.v1.dto.CursorPageDto;
 import de.x1c1b.attoly.api.web.v1.dto.PageDto;
+import de.x1c1b.attoly.api.web.v1.dto.ShortcutBatchDeletionResultDto;
+import de.x1c1b.attoly.api.web.v1.dto.ShortcutBatchResultDto;
 import de.x1c1b.attoly.api.web.v1.dto.ShortcutCreationDto;
 import de.x1c1b.attoly.api.web.v1.dto.ShortcutDto;
+import de.x1c1b.attoly.api.web.v1.dto.ShortcutImportErrorDto;
+import de.x1c1b.attoly.api.web.v1.dto.ShortcutImportResultDto;
+import de.x1c1b.attoly.api.web.v1.dto.mapper.CursorMapper;
 import de.x1c1b.attoly.api.web.v1.dto.mapper.ShortcutMapper;
+import de.x1c1b.attoly.api.web.v1.error.ValidationErrorDetails;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.TransactionException;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.Size;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
+@Validated
 @RequestMapping("/api/v1")
 public class ShortcutController {
 
+    /**
+     * Maximum number of items of a single batch request, larger requests are rejected before any of
+     * the items is processed.
+     */
+    static final int MAXIMUM_BATCH_SIZE = 1000;
+
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final String CSV_VALUE = "text/csv";
+    private static final String CSV_HEADER = "id,tag,url,createdAt,anonymous";
+
+    private final Logger logger = LoggerFactory.getLogger(ShortcutController.class);
+
     private final ShortcutService shortcutService;
     private final ShortcutMapper shortcutMapper;
+    private final CursorMapper cursorMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final MessageSource messageSource;
+    private final int importChunkSize;
+    private final int importMaximumErrors;
+    private final int importMaximumLineLength;
 
     @Autowired
-    public ShortcutController(ShortcutService shortcutService, ShortcutMapper shortcutMapper) {
+    public ShortcutController(ShortcutService shortcutService,
+                              ShortcutMapper shortcutMapper,
+                              CursorMapper cursorMapper,
+                              Validator validator,
+                              ObjectMapper objectMapper,
+                              MessageSource messageSource,
+                              @Value("${attoly.web.import.chunk-size:1000}") int importChunkSize,
+                              @Value("${attoly.web.import.maximum-errors:1000}") int importMaximumErrors,
+                              @Value("${attoly.web.import.maximum-line-length:10000}") int importMaximumLineLength) {
         this.shortcutService = shortcutService;
         this.shortcutMapper = shortcutMapper;
+        this.cursorMapper = cursorMapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.messageSource = messageSource;
+        this.importChunkSize = importChunkSize;
+        this.importMaximumErrors = importMaximumErrors;
+        this.importMaximumLineLength = importMaximumLineLength;
     }
 
     @GetMapping("/shortcuts")
@@ -52,6 +125,16 @@ public class ShortcutController {
         }
     }
 
+    @GetMapping(value = "/shortcuts", params = {"after", "!filter"})
+    @PreAuthorize("hasAnyRole('ADMIN', 'MODERATOR')")
+    CursorPageDto<ShortcutDto> findAllAfter(@PageableDefault Pageable pageable,
+                                            @RequestParam("after") String after) {
+        CursorMapper.Cursor cursor = cursorMapper.decode(after);
+        Slice<Shortcut> shortcuts = shortcutService.findAllAfter(cursor.getCreatedAt(), cursor.getId(), pageable.getPageSize());
+
+        return cursorMapper.mapToDto(shortcuts, shortcutMapper::mapToDto);
+    }
+
     @PostMapping("/shortcuts")
     @ResponseStatus(HttpStatus.CREATED)
     ShortcutDto create(@RequestBody @Valid ShortcutCreationDto dto) {
@@ -61,6 +144,218 @@ public class ShortcutController {
         return shortcutMapper.mapToDto(shortcut);
     }
 
+    @PostMapping("/shortcuts/batch")
+    List<ShortcutBatchResultDto> createAll(@RequestBody @Size(max = MAXIMUM_BATCH_SIZE) List<ShortcutCreationDto> dtos) {
+        List<ShortcutBatchResultDto> results = new ArrayList<>(dtos.size());
+        List<ShortcutCreationPayload> payloads = new ArrayList<>(dtos.size());
+        List<ShortcutBatchResultDto> pending = new ArrayList<>(dtos.size());
+
+        for (int index = 0; index < dtos.size(); index++) {
+            ShortcutCreationDto dto = Objects.requireNonNullElseGet(dtos.get(index), ShortcutCreationDto::new);
+            List<ValidationErrorDetails> errors = validate(dto);
+            ShortcutBatchResultDto result = ShortcutBatchResultDto.builder().index(index).build();
+
+            if (errors.isEmpty()) {
+                payloads.add(shortcutMapper.mapToPayload(dto));
+                pending.add(result);
+            } else {
+                result.setStatus(HttpStatus.UNPROCESSABLE_ENTITY.value());
+                result.setErrors(errors);
+            }
+
+            results.add(result);
+        }
+
+        if (!payloads.isEmpty()) {
+            List<Shortcut> shortcuts = shortcutService.createAll(payloads);
+
+            for (int index = 0; index < shortcuts.size(); index++) {
+                pending.get(index).setStatus(HttpStatus.CREATED.value());
+                pending.get(index).setShortcut(shortcutMapper.mapToDto(shortcuts.get(index)));
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Imports shortcuts from newline-delimited JSON (one {@link ShortcutCreationDto} per line) or CSV
+     * (URL in the first column, optionally preceded by a {@code url} header). The body is read line by
+     * line and persisted in chunks, so memory usage doesn't depend on the size of the import. Lines
+     * exceeding the maximum length and chunks that can't be persisted are reported as failed.
+     */
+    @PostMapping(value = "/shortcuts/import", consumes = {NDJSON_VALUE, CSV_VALUE})
+    ShortcutImportResultDto importAll(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                      InputStream body) throws IOException {
+        boolean csv = contentType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE));
+        ShortcutImportResultDto result = new ShortcutImportResultDto();
+        List<ShortcutCreationPayload> chunk = new ArrayList<>(importChunkSize);
+        List<Long> chunkLines = new ArrayList<>(importChunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            StringBuilder buffer = new StringBuilder();
+            boolean header = csv;
+            long length;
+            long lineNumber = 0;
+
+            while ((length = readLine(reader, buffer)) >= 0) {
+                String line = buffer.toString();
+                lineNumber++;
+
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                // Only the first non-blank line of a CSV import may be a header
+                if (header) {
+                    header = false;
+
+                    if (length <= importMaximumLineLength && isCsvHeader(line)) {
+                        continue;
+                    }
+                }
+
+                result.setProcessed(result.getProcessed() + 1);
+
+                List<ValidationErrorDetails> errors;
+                ShortcutCreationDto dto = null;
+
+                if (length > importMaximumLineLength) {
+                    errors = List.of(new ValidationErrorDetails(null, messageSource.getMessage(
+                            "ImportLineTooLongError.message", null, LocaleContextHolder.getLocale())));
+                } else {
+                    try {
+                        dto = csv ? parseCsvLine(line) : objectMapper.readValue(line, ShortcutCreationDto.class);
+                        errors = validate(Objects.requireNonNullElseGet(dto, ShortcutCreationDto::new));
+                    } catch (JsonProcessingException exc) {
+                        errors = List.of(new ValidationErrorDetails(null, messageSource.getMessage(
+                                "InvalidPayloadFormatError.message", null, LocaleContextHolder.getLocale())));
+                    }
+                }
+
+                if (errors.isEmpty()) {
+                    chunk.add(shortcutMapper.mapToPayload(dto));
+                    chunkLines.add(lineNumber);
+                } else {
+                    reportFailure(result, lineNumber, errors);
+                }
+
+                if (chunk.size() >= importChunkSize) {
+                    importChunk(chunk, chunkLines, result);
+                }
+            }
+        }
+
+        importChunk(chunk, chunkLines, result);
+
+        logger.info("Imported {} of {} shortcuts, {} failed", result.getCreated(), result.getProcessed(), result.getFailed());
+
+        return result;
+    }
+
+    /**
+     * Persists a chunk of the import. If the chunk can't be persisted, its lines are reported as failed
+     * and the import continues with the next chunk, so that the progress made so far isn't lost.
+     */
+    private void importChunk(List<ShortcutCreationPayload> chunk, List<Long> chunkLines, ShortcutImportResultDto result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            result.setCreated(result.getCreated() + shortcutService.createAll(chunk).size());
+        } catch (DataAccessException | TransactionException exc) {
+            logger.warn("Failed to import chunk of {} shortcuts starting at line {}", chunk.size(), chunkLines.get(0), exc);
+
+            List<ValidationErrorDetails> errors = List.of(new ValidationErrorDetails(null, messageSource.getMessage(
+                    "ImportChunkFailedError.message", null, LocaleContextHolder.getLocale())));
+            chunkLines.forEach(lineNumber -> reportFailure(result, lineNumber, errors));
+        }
+
+        chunk.clear();
+        chunkLines.clear();
+
+        logger.debug("Import progress: {} shortcuts created, {} failed", result.getCreated(), result.getFailed());
+    }
+
+    private void reportFailure(ShortcutImportResultDto result, long lineNumber, List<ValidationErrorDetails> errors) {
+        result.setFailed(result.getFailed() + 1);
+
+        if (result.getErrors().size() < importMaximumErrors) {
+            result.getErrors().add(new ShortcutImportErrorDto(lineNumber, errors));
+        }
+    }
+
+    /**
+     * Reads the next line into the buffer, but keeps at most the maximum line length of it. The rest of
+     * a longer line is skipped, so that a single line can't exhaust the memory.
+     *
+     * @return The full length of the line, or -1 if the end of the input was reached.
+     */
+    private long readLine(BufferedReader reader, StringBuilder buffer) throws IOException {
+        buffer.setLength(0);
+
+        long length = 0;
+        int character;
+
+        while ((character = reader.read()) != -1 && character != '\n') {
+            if (length++ < importMaximumLineLength) {
+                buffer.append((char) character);
+            }
+        }
+
+        if (character == -1 && length == 0) {
+            return -1;
+        }
+
+        if (!buffer.isEmpty() && buffer.charAt(buffer.length() - 1) == '\r') {
+            buffer.setLength(buffer.length() - 1);
+            length--;
+        }
+
+        return length;
+    }
+
+    private boolean isCsvHeader(String line) {
+        // Spreadsheet applications commonly prepend a byte order mark
+        String column = parseCsvLine(line.replace("\uFEFF", "")).getUrl();
+
+        return column != null && column.strip().equalsIgnoreCase("url");
+    }
+
+    private ShortcutCreationDto parseCsvLine(String line) {
+        String column = line.trim();
+
+        if (!column.startsWith("\"")) {
+            return new ShortcutCreationDto(column.split(",", 2)[0].trim());
+        }
+
+        StringBuilder url = new StringBuilder();
+
+        for (int index = 1; index < column.length(); index++) {
+            char character = column.charAt(index);
+
+            if (character != '"') {
+                url.append(character);
+            } else if (index + 1 < column.length() && column.charAt(index + 1) == '"') {
+                url.append(character);
+                index++;
+            } else {
+                break;
+            }
+        }
+
+        return new ShortcutCreationDto(url.toString());
+    }
+
+    private List<ValidationErrorDetails> validate(ShortcutCreationDto dto) {
+        Set<ConstraintViolation<ShortcutCreationDto>> violations = validator.validate(dto);
+
+        return violations.stream()
+                .map(violation -> new ValidationErrorDetails(violation.getPropertyPath().toString(), violation.getMessage()))
+                .collect(Collectors.toList());
+    }
+
     @DeleteMapping("/shortcuts/{tag}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("hasAnyRole('ADMIN', 'MODERATOR') || @domainMethodSecurityEvaluator.isShortcutOwnerOf(#tag)")
@@ -68,17 +363,88 @@ public class ShortcutController {
         shortcutService.deleteByTag(tag);
     }
 
+    /**
+     * Deletes multiple shortcuts by their tags at once. Unknown or already deleted tags are skipped,
+     * the result contains the number of actually deleted shortcuts.
+     */
+    @DeleteMapping("/shortcuts/batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MODERATOR')")
+    ShortcutBatchDeletionResultDto deleteAllByTag(@RequestBody @Size(max = MAXIMUM_BATCH_SIZE) List<String> tags) {
+        List<String> validTags = tags.stream()
+                .filter(Objects::nonNull)
+                .toList();
+
+        return ShortcutBatchDeletionResultDto.builder()
+                .requested(tags.size())
+                .deleted(shortcutService.deleteAllByTag(validTags))
+                .build();
+    }
+
     @GetMapping("/shortcuts/{tag}")
     ShortcutDto findByTag(@PathVariable("tag") String tag) {
-        Shortcut shortcut = shortcutService.findByTag(tag);
+        ShortcutView shortcut = shortcutService.findViewByTag(tag);
         return shortcutMapper.mapToDto(shortcut);
     }
 
     @GetMapping("/user/me/shortcuts")
     PageDto<ShortcutDto> findCurrentUser(@CurrentPrincipal Principal principal,
                                          @PageableDefault Pageable pageable) {
-        Page<Shortcut> page = shortcutService.findAllByOwnership(principal.getEmail(), pageable);
+        Page<ShortcutView> page = shortcutService.findAllViewsByOwnership(principal.getEmail(), pageable);
+
+        return shortcutMapper.mapViewsToDto(page);
+    }
+
+    @GetMapping(value = "/user/me/shortcuts/export", produces = {NDJSON_VALUE, CSV_VALUE})
+    void exportCurrentUser(@CurrentPrincipal Principal principal,
+                           @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = NDJSON_VALUE) String accept,
+                           HttpServletResponse response) throws IOException {
+        MediaType csvType = MediaType.parseMediaType(CSV_VALUE);
+        boolean csv = MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(type -> !type.isWildcardType() && type.isCompatibleWith(csvType));
+
+        response.setContentType(csv ? CSV_VALUE : NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(csv ? "shortcuts.csv" : "shortcuts.ndjson")
+                .build()
+                .toString());
+
+        Writer writer = response.getWriter();
+
+        if (csv) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        shortcutService.exportAllByOwnership(principal.getEmail(), shortcut -> {
+            ShortcutDto dto = shortcutMapper.mapToDto(shortcut);
+
+            try {
+                writer.write(csv ? formatCsvLine(dto) : objectMapper.writeValueAsString(dto));
+                writer.write('\n');
+            } catch (IOException exc) {
+                throw new UncheckedIOException(exc);
+            }
+        });
+
+        writer.flush();
+    }
+
+    private String formatCsvLine(ShortcutDto dto) {
+        return String.join(",",
+                dto.getId().toString(),
+                formatCsvCell(dto.getTag()),
+                formatCsvCell(dto.getUrl()),
+                dto.getCreatedAt().toString(),
+                Boolean.toString(dto.isAnonymous()));
+    }
+
+    private String formatCsvCell(String value) {
+        // Spreadsheets evaluate cells starting with one of these characters as formulas
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
 
-        return shortcutMapper.mapToDto(page);
+        return "\"" + value.replace("\"", "\"\"") + "\"";
     }
 }
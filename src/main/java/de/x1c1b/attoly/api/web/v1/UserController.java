@@ -13,10 +13,12 @@ import de.x1c1b.attoly.api.repository.rsql.JpaRSQLVisitor;
 import de.x1c1b.attoly.api.security.CurrentPrincipal;
 import de.x1c1b.attoly.api.security.Principal;
 import de.x1c1b.attoly.api.web.v1.dto.*;
+import de.x1c1b.attoly.api.web.v1.dto.mapper.CursorMapper;
 import de.x1c1b.attoly.api.web.v1.dto.mapper.UserMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -34,16 +36,19 @@ public class UserController {
     private final UserVerificationService userVerificationService;
     private final PasswordResetService passwordResetService;
     private final UserMapper userMapper;
+    private final CursorMapper cursorMapper;
 
     @Autowired
     public UserController(UserService userService,
                           UserVerificationService userVerificationService,
                           PasswordResetService passwordResetService,
-                          UserMapper userMapper) {
+                          UserMapper userMapper,
+                          CursorMapper cursorMapper) {
         this.userService = userService;
         this.userVerificationService = userVerificationService;
         this.passwordResetService = passwordResetService;
         this.userMapper = userMapper;
+        this.cursorMapper = cursorMapper;
     }
 
     @GetMapping("/users")
@@ -61,6 +66,16 @@ public class UserController {
         }
     }
 
+    @GetMapping(value = "/users", params = {"after", "!filter"})
+    @PreAuthorize("hasAnyRole('ADMIN', 'MODERATOR')")
+    CursorPageDto<PrincipalDto> findAllAfter(@PageableDefault Pageable pageable,
+                                             @RequestParam("after") String after) {
+        CursorMapper.Cursor cursor = cursorMapper.decode(after);
+        Slice<User> users = userService.findAllAfter(cursor.getCreatedAt(), cursor.getId(), pageable.getPageSize());
+
+        return cursorMapper.mapToDto(users, userMapper::mapToPrincipalDto);
+    }
+
     @GetMapping("/users/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     PrincipalDto findById(@PathVariable("id") UUID id) {
@@ -0,0 +1,25 @@
+package de.x1c1b.attoly.api.web.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class CursorPageDto<T> {
+
+    @Builder.Default
+    private List<T> content = new ArrayList<>();
+
+    private long perPage;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+}
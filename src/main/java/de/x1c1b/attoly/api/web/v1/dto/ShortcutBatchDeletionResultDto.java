@@ -0,0 +1,16 @@
+package de.x1c1b.attoly.api.web.v1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ShortcutBatchDeletionResultDto {
+
+    private long requested;
+    private long deleted;
+}
@@ -0,0 +1,26 @@
+package de.x1c1b.attoly.api.web.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import de.x1c1b.attoly.api.web.v1.error.ValidationErrorDetails;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ShortcutBatchResultDto {
+
+    private int index;
+    private int status;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ShortcutDto shortcut;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ValidationErrorDetails> errors;
+}
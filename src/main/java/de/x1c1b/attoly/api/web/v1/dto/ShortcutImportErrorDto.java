@@ -0,0 +1,22 @@
+package de.x1c1b.attoly.api.web.v1.dto;
+
+import de.x1c1b.attoly.api.web.v1.error.ValidationErrorDetails;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ShortcutImportErrorDto {
+
+    private long line;
+
+    @Builder.Default
+    private List<ValidationErrorDetails> errors = new ArrayList<>();
+}
@@ -0,0 +1,23 @@
+package de.x1c1b.attoly.api.web.v1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ShortcutImportResultDto {
+
+    private long processed;
+    private long created;
+    private long failed;
+
+    @Builder.Default
+    private List<ShortcutImportErrorDto> errors = new ArrayList<>();
+}
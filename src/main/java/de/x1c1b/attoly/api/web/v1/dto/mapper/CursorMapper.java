@@ -0,0 +1,75 @@
+package de.x1c1b.attoly.api.web.v1.dto.mapper;
+
+import de.x1c1b.attoly.api.domain.exception.InvalidCursorException;
+import de.x1c1b.attoly.api.domain.model.BaseEntity;
+import de.x1c1b.attoly.api.web.v1.dto.CursorPageDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maps slices of entities to pages addressed by an opaque cursor. The cursor encodes the creation
+ * date and identifier of the last entry of a page, which is where the next page starts.
+ */
+@Component
+public class CursorMapper {
+
+    private final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    private final Base64.Decoder decoder = Base64.getUrlDecoder();
+
+    public Cursor decode(String token) throws InvalidCursorException {
+        if (token == null || token.isBlank()) {
+            return new Cursor();
+        }
+
+        try {
+            String[] parts = new String(decoder.decode(token), StandardCharsets.UTF_8).split(":");
+
+            if (parts.length != 3) {
+                throw new InvalidCursorException("Cursor consists of an unexpected number of parts");
+            }
+
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new Cursor(createdAt, UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | ArithmeticException | DateTimeException exc) {
+            throw new InvalidCursorException("Cursor is malformed", exc);
+        }
+    }
+
+    public String encode(BaseEntity entity) {
+        String value = String.format("%d:%d:%s", entity.getCreatedAt().getEpochSecond(),
+                entity.getCreatedAt().getNano(), entity.getId());
+
+        return encoder.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public <E extends BaseEntity, D> CursorPageDto<D> mapToDto(Slice<E> slice, Function<E, D> mapper) {
+        List<E> content = slice.getContent();
+        List<D> dtos = content.stream().map(mapper).collect(Collectors.toList());
+        String nextCursor = slice.hasNext() && !content.isEmpty() ? encode(content.get(content.size() - 1)) : null;
+
+        return new CursorPageDto<>(dtos, slice.getSize(), nextCursor);
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    @Builder
+    public static class Cursor {
+
+        private Instant createdAt;
+        private UUID id;
+    }
+}
@@ -1,6 +1,7 @@
 package de.x1c1b.attoly.api.web.v1.dto.mapper;
 
 import de.x1c1b.attoly.api.domain.model.Shortcut;
+import de.x1c1b.attoly.api.domain.model.ShortcutView;
 import de.x1c1b.attoly.api.domain.model.User;
 import de.x1c1b.attoly.api.domain.payload.ShortcutCreationPayload;
 import de.x1c1b.attoly.api.web.v1.dto.PageDto;
@@ -23,10 +24,16 @@ public interface ShortcutMapper {
     @Mapping(target = "anonymous", source = "createdBy", qualifiedByName = "mapToAnonymousFlag")
     ShortcutDto mapToDto(Shortcut shortcut);
 
+    ShortcutDto mapToDto(ShortcutView shortcut);
+
     @Mapping(target = "page", source = "number")
     @Mapping(target = "perPage", source = "size")
     PageDto<ShortcutDto> mapToDto(Page<Shortcut> shortcuts);
 
+    @Mapping(target = "page", source = "number")
+    @Mapping(target = "perPage", source = "size")
+    PageDto<ShortcutDto> mapViewsToDto(Page<ShortcutView> shortcuts);
+
     default OffsetDateTime mapInstantToOffsetDateTime(Instant instant) {
         return instant.atZone(ZoneId.systemDefault()).toOffsetDateTime();
     }
@@ -32,10 +32,13 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import javax.validation.ConstraintViolationException;
+import javax.validation.Path;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 @RestControllerAdvice
 public class RestErrorHandler extends ResponseEntityExceptionHandler {
@@ -288,6 +291,45 @@ public class RestErrorHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(dto, new HttpHeaders(), HttpStatus.valueOf(dto.getStatus()));
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Object> handleConstraintViolation(ConstraintViolationException exc,
+                                                           WebRequest request) {
+
+        // Violations of method parameters have paths like "createAll.dtos", only the parameter is reported
+        List<Object> details = exc.getConstraintViolations().stream()
+                .map(violation -> new ValidationErrorDetails(StreamSupport.stream(violation.getPropertyPath().spliterator(), false)
+                        .reduce((first, second) -> second)
+                        .map(Path.Node::getName)
+                        .orElse(null), violation.getMessage()))
+                .collect(Collectors.toList());
+
+        ErrorDto dto = ErrorDto.builder()
+                .message(getMessage("ValidationError.message", null))
+                .timestamp(OffsetDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .path(((ServletWebRequest) request).getRequest().getServletPath())
+                .details(details)
+                .build();
+
+        return new ResponseEntity<>(dto, new HttpHeaders(), HttpStatus.valueOf(dto.getStatus()));
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Object> handleInvalidCursor(InvalidCursorException exc,
+                                                      WebRequest request) {
+
+        ErrorDto dto = ErrorDto.builder()
+                .message(getMessage("InvalidCursorError.message", null))
+                .timestamp(OffsetDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .path(((ServletWebRequest) request).getRequest().getServletPath())
+                .detail(new InvalidParameterErrorDetails("after",
+                        getMessage("InvalidCursorError.message", null)))
+                .build();
+
+        return new ResponseEntity<>(dto, new HttpHeaders(), HttpStatus.valueOf(dto.getStatus()));
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<Object> handleEntityNotFound(EntityNotFoundException exc,
                                                        WebRequest request) {
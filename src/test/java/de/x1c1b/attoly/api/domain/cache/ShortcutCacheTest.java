@@ -0,0 +1,173 @@
+package de.x1c1b.attoly.api.domain.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShortcutCacheTest {
+
+    private ShortcutCache shortcutCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        ShortcutCacheProperties properties = new ShortcutCacheProperties();
+        properties.getDistributed().setEnabled(false);
+
+        shortcutCache = new ShortcutCache(properties, null, Optional.empty(), new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getLoadsOnlyOnce() {
+        shortcutCache.get("vT6Nafaz", this::load);
+        Optional<String> url = shortcutCache.get("vT6Nafaz", this::load);
+
+        assertEquals(Optional.of("http://localhost:8080"), url);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getCachesMissingTags() {
+        shortcutCache.get("missing", this::load);
+        Optional<String> url = shortcutCache.get("missing", this::load);
+
+        assertTrue(url.isEmpty());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evict() {
+        shortcutCache.get("vT6Nafaz", this::load);
+        shortcutCache.evict("vT6Nafaz");
+        shortcutCache.get("vT6Nafaz", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void put() {
+        shortcutCache.put("vT6Nafaz", "http://localhost:8080");
+        Optional<String> url = shortcutCache.get("vT6Nafaz", this::load);
+
+        assertEquals(Optional.of("http://localhost:8080"), url);
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getConsultsDistributedCache() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(eq("ShortcutUrl:vT6Nafaz"))).thenReturn("http://localhost:8080");
+
+        ShortcutCache distributedCache = new ShortcutCache(new ShortcutCacheProperties(), redisTemplate, Optional.empty(), new SimpleMeterRegistry());
+        Optional<String> url = distributedCache.get("vT6Nafaz", this::load);
+
+        assertEquals(Optional.of("http://localhost:8080"), url);
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void evictPropagatesToOtherInstances() {
+        ShortcutCacheProperties properties = new ShortcutCacheProperties();
+        properties.getDistributed().setEnabled(false);
+
+        ShortcutInvalidationBus invalidationBus = mock(ShortcutInvalidationBus.class);
+        ArgumentCaptor<Consumer<ShortcutInvalidationMessage>> subscriber = ArgumentCaptor.forClass(Consumer.class);
+
+        ShortcutCache otherCache = new ShortcutCache(properties, null, Optional.of(invalidationBus), new SimpleMeterRegistry());
+        verify(invalidationBus).subscribe(subscriber.capture());
+
+        otherCache.get("vT6Nafaz", this::load);
+        subscriber.getValue().accept(ShortcutInvalidationMessage.builder().tags(List.of("vT6Nafaz")).build());
+        otherCache.get("vT6Nafaz", this::load);
+
+        otherCache.evict("vT6Nafaz");
+
+        assertEquals(2, loads.get());
+        verify(invalidationBus).publish("vT6Nafaz");
+    }
+
+    private Optional<String> load(String tag) {
+        loads.incrementAndGet();
+        return "vT6Nafaz".equals(tag) ? Optional.of("http://localhost:8080") : Optional.empty();
+    }
+
+    @Test
+    void evictAllPublishesSingleInvalidation() {
+        ShortcutCacheProperties properties = new ShortcutCacheProperties();
+        properties.getDistributed().setEnabled(false);
+
+        ShortcutInvalidationBus invalidationBus = mock(ShortcutInvalidationBus.class);
+        ShortcutCache otherCache = new ShortcutCache(properties, null, Optional.of(invalidationBus), new SimpleMeterRegistry());
+
+        otherCache.evictAll(List.of("vT6Nafaz", "abc123"));
+
+        verify(invalidationBus).publish(List.of("vT6Nafaz", "abc123"));
+        verify(invalidationBus, never()).publish(anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void evictBlocksRepopulationOfSharedCache() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        ShortcutCache distributedCache = new ShortcutCache(new ShortcutCacheProperties(), redisTemplate, Optional.empty(), new SimpleMeterRegistry());
+
+        distributedCache.evict("vT6Nafaz");
+        distributedCache.get("vT6Nafaz", this::load);
+
+        verify(valueOperations).set(eq("ShortcutUrl:vT6Nafaz"), eq("!evicted"), eq(60000L), eq(TimeUnit.MILLISECONDS));
+        verify(valueOperations).setIfAbsent(eq("ShortcutUrl:vT6Nafaz"), eq("http://localhost:8080"), eq(3600000L), eq(TimeUnit.MILLISECONDS));
+        verify(valueOperations, never()).set(eq("ShortcutUrl:vT6Nafaz"), eq("http://localhost:8080"), anyLong(), any());
+    }
+
+    @Test
+    void putIsDeferredUntilCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            shortcutCache.put("vT6Nafaz", "http://localhost:8080");
+            shortcutCache.get("vT6Nafaz", this::load);
+
+            assertEquals(1, loads.get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        shortcutCache.evict("vT6Nafaz");
+        shortcutCache.put("vT6Nafaz", "http://localhost:8081");
+
+        assertEquals(Optional.of("http://localhost:8081"), shortcutCache.get("vT6Nafaz", this::load));
+    }
+}
@@ -1,19 +1,30 @@
 package de.x1c1b.attoly.api.domain.impl;
 
+import de.x1c1b.attoly.api.domain.cache.ShortcutCache;
+import de.x1c1b.attoly.api.domain.exception.EntityNotFoundException;
 import de.x1c1b.attoly.api.domain.model.Shortcut;
+import de.x1c1b.attoly.api.domain.payload.ShortcutCreationPayload;
+import de.x1c1b.attoly.api.domain.tag.TagAllocator;
 import de.x1c1b.attoly.api.repository.ShortcutRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import javax.persistence.EntityManager;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -23,6 +34,15 @@ class ShortcutServiceImplTest {
     @Mock
     private ShortcutRepository shortcutRepository;
 
+    @Mock
+    private ShortcutCache shortcutCache;
+
+    @Mock
+    private TagAllocator tagAllocator;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ShortcutServiceImpl shortcutService;
 
@@ -50,4 +70,86 @@ class ShortcutServiceImplTest {
 
         assertEquals(sampleShortcut.getId(), shortcut.getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findUrlByTag() {
+        when(shortcutCache.get(eq(sampleShortcut.getTag()), any())).thenAnswer(this::loadUncached);
+        when(shortcutRepository.findUrlByTag(eq(sampleShortcut.getTag()))).thenReturn(Optional.of(sampleShortcut.getUrl()));
+
+        String url = shortcutService.findUrlByTag(sampleShortcut.getTag());
+
+        verify(shortcutRepository, times(1)).findUrlByTag(eq(sampleShortcut.getTag()));
+
+        assertEquals(sampleShortcut.getUrl(), url);
+    }
+
+    @Test
+    void findUrlByTagMissing() {
+        when(shortcutCache.get(eq("missing"), any())).thenAnswer(this::loadUncached);
+        when(shortcutRepository.findUrlByTag(eq("missing"))).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> shortcutService.findUrlByTag("missing"));
+    }
+
+    @Test
+    void create() {
+        when(tagAllocator.allocate()).thenReturn(sampleShortcut.getTag());
+        when(shortcutRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Shortcut shortcut = shortcutService.create(new ShortcutCreationPayload(sampleShortcut.getUrl()));
+
+        verify(shortcutCache, times(1)).put(eq(sampleShortcut.getTag()), eq(sampleShortcut.getUrl()));
+
+        assertEquals(sampleShortcut.getTag(), shortcut.getTag());
+    }
+
+    @Test
+    void createAll() {
+        when(tagAllocator.allocate(eq(2))).thenReturn(List.of("vT6Nafaz", "Jk2Lm9Qa"));
+        when(shortcutRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Shortcut> shortcuts = shortcutService.createAll(List.of(
+                new ShortcutCreationPayload("http://localhost:8080"),
+                new ShortcutCreationPayload("http://localhost:8081")));
+
+        verify(shortcutRepository, times(1)).saveAll(any());
+        verify(entityManager, times(2)).detach(any(Shortcut.class));
+        verify(entityManager, never()).clear();
+
+        assertEquals(2, shortcuts.size());
+        assertEquals("Jk2Lm9Qa", shortcuts.get(1).getTag());
+        assertEquals("http://localhost:8081", shortcuts.get(1).getUrl());
+    }
+
+    @Test
+    void deleteAllAnonymousCreatedBefore() {
+        when(shortcutRepository.findAnonymousTagsCreatedBefore(any(), any())).thenReturn(List.of(sampleShortcut.getTag()));
+        when(shortcutRepository.deleteAllSoftByTagIn(eq(List.of(sampleShortcut.getTag())), any())).thenReturn(1);
+
+        int deleted = shortcutService.deleteAllAnonymousCreatedBefore(OffsetDateTime.now(), 1000);
+
+        verify(shortcutCache, times(1)).evictAll(eq(List.of(sampleShortcut.getTag())));
+        verify(shortcutCache, never()).evictAll();
+
+        assertEquals(1, deleted);
+    }
+
+    @Test
+    void deleteAllByTag() {
+        when(shortcutRepository.deleteAllSoftByTagIn(eq(List.of("vT6Nafaz", "Jk2Lm9Qa")), any())).thenReturn(2);
+
+        int deleted = shortcutService.deleteAllByTag(List.of("vT6Nafaz", "Jk2Lm9Qa", "vT6Nafaz"));
+
+        verify(shortcutRepository, times(1)).deleteAllSoftByTagIn(any(), any());
+        verify(shortcutCache, times(1)).evictAll(eq(List.of("vT6Nafaz", "Jk2Lm9Qa")));
+
+        assertEquals(2, deleted);
+    }
+
+    private Optional<String> loadUncached(InvocationOnMock invocation) {
+        String tag = invocation.getArgument(0);
+        Function<String, Optional<String>> loader = invocation.getArgument(1);
+
+        return loader.apply(tag);
+    }
+}
@@ -0,0 +1,106 @@
+package de.x1c1b.attoly.api.domain.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobLockTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private JobLock jobLock;
+
+    @BeforeEach
+    void setUp() {
+        jobLock = new JobLock(new JobLockProperties(), redisTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void runExclusivelyHoldsForMinimumHoldTime() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(JobLock.KEY_PREFIX + "job"), anyString(), eq(60000L), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertTrue(jobLock.runExclusively("job", () -> ran.set(true)));
+        assertTrue(ran.get());
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(JobLock.KEY_PREFIX + "job")), anyString(), anyString());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(JobLock.KEY_PREFIX + "job")), anyString());
+    }
+
+    @Test
+    void runExclusivelyReleasesAfterMinimumHoldTime() {
+        jobLock = new JobLock(JobLockProperties.builder().minimumHoldTime(0L).build(), redisTemplate, new SimpleMeterRegistry());
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(JobLock.KEY_PREFIX + "job"), anyString(), eq(60000L), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+
+        assertTrue(jobLock.runExclusively("job", () -> {
+        }));
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(JobLock.KEY_PREFIX + "job")), anyString());
+    }
+
+    @Test
+    void runExclusivelySkipsIfHeld() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(JobLock.KEY_PREFIX + "job"), anyString(), anyLong(), any())).thenReturn(false);
+        when(valueOperations.get(eq(JobLock.KEY_PREFIX + "job")))
+                .thenReturn("{\"job\":\"job\",\"instance\":\"a\",\"host\":\"node-1\",\"acquiredAt\":0}");
+
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertFalse(jobLock.runExclusively("job", () -> ran.set(true)));
+        assertFalse(ran.get());
+        assertTrue(jobLock.findHolder("job").isPresent());
+    }
+
+    @Test
+    void runSequentiallyWaitsForLock() {
+        jobLock = new JobLock(JobLockProperties.builder().waitInterval(1L).build(), redisTemplate, new SimpleMeterRegistry());
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(JobLock.KEY_PREFIX + "job"), anyString(), anyLong(), any())).thenReturn(false, false, true);
+
+        AtomicBoolean ran = new AtomicBoolean();
+
+        jobLock.runSequentially("job", () -> ran.set(true));
+
+        assertTrue(ran.get());
+        verify(valueOperations, times(3)).setIfAbsent(eq(JobLock.KEY_PREFIX + "job"), anyString(), anyLong(), any());
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(JobLock.KEY_PREFIX + "job")), anyString());
+    }
+
+    @Test
+    void runSequentiallyRunsWithoutLockIfUnavailable() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(JobLock.KEY_PREFIX + "job"), anyString(), anyLong(), any()))
+                .thenThrow(new RedisConnectionFailureException("Unavailable"));
+
+        AtomicBoolean ran = new AtomicBoolean();
+
+        jobLock.runSequentially("job", () -> ran.set(true));
+
+        assertTrue(ran.get());
+    }
+}
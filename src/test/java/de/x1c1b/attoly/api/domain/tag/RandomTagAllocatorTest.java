@@ -0,0 +1,68 @@
+package de.x1c1b.attoly.api.domain.tag;
+
+import de.x1c1b.attoly.api.repository.ShortcutRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RandomTagAllocatorTest {
+
+    @Mock
+    private ShortcutRepository shortcutRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RandomTagAllocator tagAllocator;
+
+    @BeforeEach
+    void setUp() {
+        TagAllocatorProperties properties = new TagAllocatorProperties();
+        properties.getPool().setSize(10);
+        properties.getPool().setRefillThreshold(0);
+        properties.getPool().setBatchSize(5);
+
+        meterRegistry = new SimpleMeterRegistry();
+        tagAllocator = new RandomTagAllocator(properties, shortcutRepository, meterRegistry);
+    }
+
+    @Test
+    void allocateFromPool() {
+        Set<String> taken = new HashSet<>();
+
+        when(shortcutRepository.findTakenTags(any())).thenAnswer(invocation -> {
+            Collection<String> tags = invocation.getArgument(0);
+            String tag = tags.iterator().next();
+            taken.add(tag);
+            return List.of(tag);
+        });
+
+        tagAllocator.refill();
+
+        assertTrue(meterRegistry.get("tag.pool.depth").gauge().value() >= 10);
+
+        Set<String> tags = new HashSet<>();
+
+        for (int index = 0; index < 10; index++) {
+            String tag = tagAllocator.allocate();
+
+            assertTrue(tag.matches("[A-Za-z0-9_-]{8}"));
+            assertFalse(taken.contains(tag));
+            tags.add(tag);
+        }
+
+        assertEquals(10, tags.size());
+        assertEquals(0, meterRegistry.get("tag.pool.exhausted").counter().count());
+    }
+}
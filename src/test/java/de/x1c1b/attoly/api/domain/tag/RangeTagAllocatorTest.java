@@ -0,0 +1,91 @@
+package de.x1c1b.attoly.api.domain.tag;
+
+import de.x1c1b.attoly.api.repository.TagSequenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RangeTagAllocatorTest {
+
+    @Mock
+    private TagSequenceRepository tagSequenceRepository;
+
+    private RangeTagAllocator tagAllocator;
+
+    @BeforeEach
+    void setUp() {
+        TagAllocatorProperties properties = new TagAllocatorProperties();
+        properties.getRange().setSize(100);
+
+        tagAllocator = new RangeTagAllocator(properties, tagSequenceRepository);
+    }
+
+    @Test
+    void allocateLeasesRanges() {
+        when(tagSequenceRepository.lease(eq(RangeTagAllocator.SEQUENCE_NAME), eq(100L))).thenReturn(100L, 300L);
+
+        Set<String> tags = new HashSet<>();
+
+        for (int index = 0; index < 150; index++) {
+            String tag = tagAllocator.allocate();
+
+            assertTrue(tag.matches("[A-Za-z0-9]{6}"));
+            tags.add(tag);
+        }
+
+        assertEquals(150, tags.size());
+        verify(tagSequenceRepository, times(2)).lease(eq(RangeTagAllocator.SEQUENCE_NAME), eq(100L));
+    }
+
+    @Test
+    void allocateRetriesLeaseAfterLockFailure() {
+        when(tagSequenceRepository.lease(eq(RangeTagAllocator.SEQUENCE_NAME), eq(100L)))
+                .thenThrow(new CannotAcquireLockException("Deadlock"))
+                .thenReturn(100L);
+
+        assertEquals(RangeTagAllocator.encode(1, 6), tagAllocator.allocate());
+        verify(tagSequenceRepository, times(2)).lease(eq(RangeTagAllocator.SEQUENCE_NAME), eq(100L));
+    }
+
+    @Test
+    void encodeIsUnique() {
+        Set<String> tags = new HashSet<>();
+
+        for (long value = 1; value <= 10000; value++) {
+            tags.add(RangeTagAllocator.encode(value, 3));
+        }
+
+        assertEquals(10000, tags.size());
+        assertEquals(7, RangeTagAllocator.encode((long) Math.pow(62, 7) - 1, 6).length());
+    }
+
+    @Test
+    void encodeRejectsLengthOfRandomTags() {
+        assertThrows(IllegalStateException.class, () -> RangeTagAllocator.encode((long) Math.pow(62, 7), 6));
+    }
+
+    @Test
+    void minimumLengthIsValidated() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        TagAllocatorProperties properties = new TagAllocatorProperties();
+
+        properties.getRange().setMinimumLength(7);
+        assertTrue(validator.validate(properties).isEmpty());
+
+        properties.getRange().setMinimumLength(8);
+        assertFalse(validator.validate(properties).isEmpty());
+    }
+}
@@ -0,0 +1,179 @@
+package de.x1c1b.attoly.api.repository;
+
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.EntityManager;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that the statements issued by the repositories are served by the expected index instead of
+ * a table scan. The statements are captured from Hibernate while the repository methods are called and
+ * explained afterwards, so that changes to the queries or the mapping are covered as well.
+ */
+@ExtendWith(SpringExtension.class)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "de.x1c1b.attoly.api.repository.IndexUsageTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+class IndexUsageTest {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    // Unique constraint on the tag, named by Hibernate, see docs/scripts/schema.sql
+    private static final String TAG_INDEX = "UK_AXWNM57AJ9YF8C8NRIF299NUP";
+
+    private static final UUID ID = UUID.fromString("69197359-4961-446d-9fc7-b5487cb5c6b3");
+
+    @Autowired
+    private ShortcutRepository shortcutRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        STATEMENTS.clear();
+    }
+
+    @Test
+    void findShortcutByTag() {
+        shortcutRepository.findByTag("abc123");
+        shortcutRepository.findUrlByTag("abc123");
+        assertUsesIndex(TAG_INDEX);
+    }
+
+    @Test
+    void findUsedTags() {
+        shortcutRepository.findUsedTags(List.of("abc123", "def456"));
+        assertUsesIndex(TAG_INDEX);
+    }
+
+    @Test
+    void deleteShortcutsByTag() {
+        shortcutRepository.deleteAllSoftByTagIn(List.of("abc123", "def456"), Instant.now());
+        assertUsesIndex(TAG_INDEX);
+    }
+
+    @Test
+    void findShortcutsByOwnership() {
+        shortcutRepository.findByOwnership(ID, PageRequest.of(0, 10));
+        assertUsesIndex("IDX_SHORTCUTS_CREATED_BY_DELETED_CREATED_AT");
+    }
+
+    @Test
+    void findAnonymousTagsCreatedBefore() {
+        shortcutRepository.findAnonymousTagsCreatedBefore(Instant.now(), PageRequest.of(0, 1000));
+        assertUsesIndex("IDX_SHORTCUTS_CREATED_BY_DELETED_CREATED_AT");
+    }
+
+    @Test
+    void findShortcutSlice() {
+        shortcutRepository.findSlice(PageRequest.of(0, 10));
+        assertUsesIndex("IDX_SHORTCUTS_DELETED_CREATED_AT");
+    }
+
+    @Test
+    void findArchivableShortcuts() {
+        shortcutRepository.findArchivableIds(Instant.now(), PageRequest.of(0, 1000));
+        assertUsesIndex("IDX_SHORTCUTS_DELETED_DELETED_AT");
+    }
+
+    @Test
+    void findComplaintsByShortcut() {
+        complaintRepository.findByShortcut(ID, PageRequest.of(0, 10));
+        assertUsesIndex("IDX_COMPLAINTS_SHORTCUT_DELETED");
+    }
+
+    @Test
+    void findComplaintSlice() {
+        complaintRepository.findSlice(PageRequest.of(0, 10));
+        assertUsesIndex("IDX_COMPLAINTS_DELETED_CREATED_AT");
+    }
+
+    @Test
+    void findUserByEmail() {
+        userRepository.findByEmail("max.mustermann@localhost.com");
+        assertUsesIndex("IDX_USERS_EMAIL_DELETED");
+    }
+
+    @Test
+    void findUserSlice() {
+        userRepository.findSlice(PageRequest.of(0, 10));
+        assertUsesIndex("IDX_USERS_DELETED_CREATED_AT");
+    }
+
+    private void assertUsesIndex(String index) {
+        assertFalse(STATEMENTS.isEmpty(), "No statements were captured");
+
+        List<String> plans = new ArrayList<>();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            for (String statement : STATEMENTS) {
+                try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement)) {
+                    bindSampleValues(explain);
+
+                    try (ResultSet resultSet = explain.executeQuery()) {
+                        resultSet.next();
+                        plans.add(resultSet.getString(1));
+                    }
+                }
+            }
+        });
+
+        plans.forEach(plan -> assertFalse(plan.contains("tableScan"), plan));
+        assertTrue(plans.stream().anyMatch(plan -> plan.contains(index)), String.join("\n", plans));
+    }
+
+    /**
+     * Binds a non-null value of the inferred type to each parameter, as comparisons with {@code NULL}
+     * are folded to constants and would not be planned against an index.
+     */
+    private void bindSampleValues(PreparedStatement statement) throws SQLException {
+        ParameterMetaData metaData = statement.getParameterMetaData();
+
+        for (int index = 1; index <= metaData.getParameterCount(); index++) {
+            switch (metaData.getParameterType(index)) {
+                case Types.BOOLEAN -> statement.setBoolean(index, false);
+                case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> statement.setInt(index, 10);
+                case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> statement.setTimestamp(index, Timestamp.from(Instant.now()));
+                case Types.BINARY, Types.VARBINARY -> statement.setBytes(index, new byte[16]);
+                case Types.OTHER, Types.JAVA_OBJECT -> statement.setObject(index, ID);
+                default -> statement.setString(index, "abc123");
+            }
+        }
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
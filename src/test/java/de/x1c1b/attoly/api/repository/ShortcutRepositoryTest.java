@@ -0,0 +1,123 @@
+package de.x1c1b.attoly.api.repository;
+
+import de.x1c1b.attoly.api.domain.model.ArchivedShortcut;
+import de.x1c1b.attoly.api.domain.model.Shortcut;
+import de.x1c1b.attoly.api.domain.model.ShortcutView;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@ActiveProfiles("test")
+class ShortcutRepositoryTest {
+
+    @Autowired
+    private ShortcutRepository shortcutRepository;
+
+    @Autowired
+    private ArchivedShortcutRepository archivedShortcutRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void archive() {
+        Shortcut shortcut = shortcutRepository.save(Shortcut.builder()
+                .tag("abc123")
+                .url("https://www.google.com")
+                .build());
+
+        shortcut.setDeleted(true);
+        shortcut.setDeletedAt(Instant.now().minusSeconds(60));
+        entityManager.flush();
+
+        ArchivedShortcut deleted = archivedShortcutRepository.findDeletedById(shortcut.getId()).orElseThrow();
+
+        assertEquals("abc123", deleted.getTag());
+        assertNull(deleted.getArchivedAt());
+
+        List<UUID> ids = shortcutRepository.findArchivableIds(Instant.now(), PageRequest.of(0, 10));
+
+        assertEquals(List.of(shortcut.getId()), ids);
+        assertEquals(1, shortcutRepository.copyToArchive(ids, Instant.now()));
+        assertEquals(1, shortcutRepository.deleteAllByIdIn(ids));
+
+        entityManager.clear();
+
+        ArchivedShortcut archived = archivedShortcutRepository.findAnyById(shortcut.getId()).orElseThrow();
+
+        assertEquals("abc123", archived.getTag());
+        assertNotNull(archived.getArchivedAt());
+
+        // The archive-aware lookups agree with each other
+        assertTrue(archivedShortcutRepository.existsDeletedById(shortcut.getId()));
+        assertTrue(archivedShortcutRepository.findDeletedById(shortcut.getId()).isPresent());
+        assertTrue(archivedShortcutRepository.existsAnyById(shortcut.getId()));
+        assertEquals(List.of(archived), archivedShortcutRepository.findAllDeleted());
+        assertEquals(1, archivedShortcutRepository.countDeleted());
+        assertEquals(List.of(archived), archivedShortcutRepository.findAllAny());
+        assertEquals(1, archivedShortcutRepository.countAny());
+
+        // The inherited lookups only cover the hot table and agree with each other as well
+        assertFalse(shortcutRepository.existsDeletedById(shortcut.getId()));
+        assertFalse(shortcutRepository.findDeletedById(shortcut.getId()).isPresent());
+        assertFalse(shortcutRepository.existsAnyById(shortcut.getId()));
+        assertFalse(shortcutRepository.findAnyById(shortcut.getId()).isPresent());
+        assertEquals(0, shortcutRepository.countDeleted());
+        assertEquals(0, shortcutRepository.countAny());
+        assertEquals(0, shortcutRepository.count());
+        assertEquals(List.of("abc123"), shortcutRepository.findTakenTags(List.of("abc123", "def456")));
+    }
+
+    @Test
+    void findViewByTagLoadsNoEntities() {
+        Shortcut shortcut = shortcutRepository.save(Shortcut.builder()
+                .tag("abc123")
+                .url("https://www.google.com")
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Optional<ShortcutView> view = shortcutRepository.findViewByTag("abc123");
+
+        assertTrue(view.isPresent());
+        assertEquals(shortcut.getId(), view.get().getId());
+        assertEquals("https://www.google.com", view.get().getUrl());
+        assertTrue(view.get().isAnonymous());
+        assertFalse(shortcutRepository.findViewByTag("def456").isPresent());
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class ShortcutRepositoryTestConfig {
+    }
+}
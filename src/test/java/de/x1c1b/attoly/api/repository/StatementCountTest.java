@@ -0,0 +1,152 @@
+package de.x1c1b.attoly.api.repository;
+
+import de.x1c1b.attoly.api.domain.model.*;
+import de.x1c1b.attoly.api.security.PrincipalCache;
+import de.x1c1b.attoly.api.security.PrincipalCacheProperties;
+import de.x1c1b.attoly.api.security.PrincipalService;
+import de.x1c1b.attoly.api.web.v1.dto.mapper.ComplaintMapper;
+import de.x1c1b.attoly.api.web.v1.dto.mapper.RoleMapper;
+import de.x1c1b.attoly.api.web.v1.dto.mapper.ShortcutMapper;
+import de.x1c1b.attoly.api.web.v1.dto.mapper.UserMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Asserts the exact number of SQL statements issued by the read paths of the endpoints, including the
+ * mapping to DTOs, so that lazy associations which are accidentally initialized one by one (N+1) are
+ * detected.
+ */
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Sql(scripts = {"/sql/roles.sql", "/sql/users.sql"})
+class StatementCountTest {
+
+    private static final UUID USER_ID = UUID.fromString("69197359-4961-446d-9fc7-b5487cb5c6b3");
+    private static final UUID ROLE_ID = UUID.fromString("7b3aff46-834d-4346-ad5e-b76d75c52683");
+
+    private final ComplaintMapper complaintMapper = Mappers.getMapper(ComplaintMapper.class);
+    private final ShortcutMapper shortcutMapper = Mappers.getMapper(ShortcutMapper.class);
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+    private final RoleMapper roleMapper = Mappers.getMapper(RoleMapper.class);
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private ShortcutRepository shortcutRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Complaint complaint;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.find(User.class, USER_ID);
+        user.getRoles().add(entityManager.find(Role.class, ROLE_ID));
+
+        for (String tag : List.of("abc123", "def456", "ghi789")) {
+            Shortcut shortcut = entityManager.persist(Shortcut.builder()
+                    .tag(tag)
+                    .url("https://www.google.com")
+                    .createdBy(user)
+                    .build());
+
+            complaint = entityManager.persist(Complaint.builder()
+                    .reason(Complaint.Reason.SPAM)
+                    .shortcut(shortcut)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void findAllComplaints() {
+        assertStatements(2, () -> complaintMapper.mapToDto(complaintRepository.findAll(PageRequest.of(0, 2))));
+    }
+
+    @Test
+    void findAllComplaintsAfter() {
+        assertStatements(1, () -> complaintRepository.findSlice(PageRequest.of(0, 2))
+                .forEach(complaintMapper::mapToDto));
+    }
+
+    @Test
+    void findAllComplaintsByShortcut() {
+        assertStatements(1, () -> complaintMapper.mapToDto(complaintRepository.findByShortcut("abc123", PageRequest.of(0, 10))));
+    }
+
+    @Test
+    void findComplaintById() {
+        assertStatements(1, () -> complaintMapper.mapToDto(complaintRepository.findById(complaint.getId()).orElseThrow()));
+    }
+
+    @Test
+    void findAllShortcuts() {
+        assertStatements(2, () -> shortcutMapper.mapToDto(shortcutRepository.findAll(PageRequest.of(0, 2))));
+    }
+
+    @Test
+    void findAllUsers() {
+        assertStatements(2, () -> userMapper.mapToDto(userRepository.findAll(PageRequest.of(0, 1))));
+    }
+
+    @Test
+    void findRolesOfUser() {
+        assertStatements(1, () -> roleMapper.mapToDto(userRepository.findById(USER_ID).orElseThrow().getRoles()));
+    }
+
+    @Test
+    void authenticate() {
+        PrincipalCacheProperties properties = PrincipalCacheProperties.builder().enabled(false).build();
+        PrincipalService principalService = new PrincipalService(userRepository, new PrincipalCache(properties, new SimpleMeterRegistry()));
+
+        assertStatements(1, () -> principalService.loadUserByUsername("max.mustermann@localhost.com").getAuthorities());
+    }
+
+    private void assertStatements(long expected, Runnable runnable) {
+        runnable.run();
+        assertEquals(expected, statistics.getPrepareStatementCount());
+    }
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class StatementCountTestConfig {
+    }
+}
@@ -0,0 +1,84 @@
+package de.x1c1b.attoly.api.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@ActiveProfiles("test")
+class TagSequenceRepositoryTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private TagSequenceRepository tagSequenceRepository;
+
+    @Test
+    void leaseContinuesSequence() {
+        assertEquals(100L, tagSequenceRepository.lease("test", 100L));
+        assertEquals(200L, tagSequenceRepository.lease("test", 100L));
+        assertEquals(250L, tagSequenceRepository.lease("test", 50L));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void concurrentFirstLeasesDoNotOverlap() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+
+            for (int index = 0; index < THREADS; index++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return lease("concurrent", 100L);
+                }));
+            }
+
+            start.countDown();
+
+            Set<Long> leases = new HashSet<>();
+
+            for (Future<Long> future : futures) {
+                leases.add(future.get());
+            }
+
+            assertEquals(LongStream.rangeClosed(1, THREADS).map(index -> index * 100L).boxed().collect(Collectors.toSet()),
+                    leases);
+        } finally {
+            executor.shutdownNow();
+            tagSequenceRepository.deleteById("concurrent");
+        }
+    }
+
+    private long lease(String name, long size) {
+        try {
+            return tagSequenceRepository.lease(name, size);
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException exc) {
+            // Retried like RangeTagAllocator does, once the sequence was created concurrently
+            return tagSequenceRepository.lease(name, size);
+        }
+    }
+}
@@ -1,18 +1,25 @@
 package de.x1c1b.attoly.api.repository;
 
 import de.x1c1b.attoly.api.domain.model.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,6 +33,9 @@ class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void contextLoads() {
     }
@@ -70,6 +80,48 @@ class UserRepositoryTest {
         assertFalse(optionalUser.isPresent());
     }
 
+    @Test
+    void existsByEmailLoadsNoEntities() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        assertTrue(userRepository.existsByEmail("max.mustermann@localhost.com"));
+        assertFalse(userRepository.existsByEmail("jane.doe@localhost.com"));
+        assertTrue(userRepository.existsAnyByEmail("max.mustermann@localhost.com"));
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    void findSlice() {
+        Slice<User> first = userRepository.findSlice(PageRequest.of(0, 1));
+
+        assertEquals(1, first.getNumberOfElements());
+        assertEquals("erika.musterfrau@localhost.com", first.getContent().get(0).getEmail());
+        assertTrue(first.hasNext());
+
+        User last = first.getContent().get(0);
+        Slice<User> second = userRepository.findSliceAfter(last.getCreatedAt(), last.getId(), PageRequest.of(0, 1));
+
+        assertEquals(1, second.getNumberOfElements());
+        assertEquals("max.mustermann@localhost.com", second.getContent().get(0).getEmail());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void deleteAllSoftByIdInBatch() {
+        List<UUID> ids = userRepository.findAll().stream()
+                .map(User::getId)
+                .toList();
+
+        assertEquals(2, userRepository.deleteAllSoftByIdInBatch(ids));
+        assertEquals(0, userRepository.count());
+        assertEquals(3, userRepository.countAny());
+        assertEquals(0, userRepository.deleteAllSoftByIdInBatch(ids));
+    }
+
     @TestConfiguration
     @EnableJpaAuditing
     static class UserRepositoryTestConfig {
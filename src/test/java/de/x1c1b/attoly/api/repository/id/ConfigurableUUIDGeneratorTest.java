@@ -0,0 +1,48 @@
+package de.x1c1b.attoly.api.repository.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.service.ServiceRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigurableUUIDGeneratorTest {
+
+    @Mock
+    private ServiceRegistry serviceRegistry;
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Test
+    void generateTimeOrdered() {
+        assertEquals(7, generate("time-ordered").version());
+    }
+
+    @Test
+    void generateRandom() {
+        assertEquals(4, generate("random").version());
+    }
+
+    private UUID generate(String strategy) {
+        when(serviceRegistry.getService(eq(ConfigurationService.class))).thenReturn(configurationService);
+        when(configurationService.getSetting(eq(ConfigurableUUIDGenerator.UUID_GENERATOR), eq(StandardConverters.STRING), any()))
+                .thenReturn(strategy);
+
+        ConfigurableUUIDGenerator generator = new ConfigurableUUIDGenerator();
+        generator.configure(null, new Properties(), serviceRegistry);
+
+        return (UUID) generator.generate(null, null);
+    }
+}
@@ -0,0 +1,27 @@
+package de.x1c1b.attoly.api.repository.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedUUIDGeneratorTest {
+
+    @Test
+    void generateIsTimeOrdered() {
+        UUID previous = TimeOrderedUUIDGenerator.generate();
+
+        for (int index = 0; index < 10000; index++) {
+            UUID next = TimeOrderedUUIDGenerator.generate();
+
+            assertEquals(7, next.version());
+            assertEquals(2, next.variant());
+            assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), next.getMostSignificantBits()) < 0);
+            assertTrue(previous.toString().compareTo(next.toString()) < 0);
+
+            previous = next;
+        }
+    }
+}
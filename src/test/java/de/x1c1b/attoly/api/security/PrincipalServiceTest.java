@@ -0,0 +1,99 @@
+package de.x1c1b.attoly.api.security;
+
+import de.x1c1b.attoly.api.domain.event.UserAccessChangedEvent;
+import de.x1c1b.attoly.api.domain.model.User;
+import de.x1c1b.attoly.api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalServiceTest {
+
+    private static final String EMAIL = "max.mustermann@localhost.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PrincipalCache principalCache;
+    private PrincipalService principalService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(new PrincipalCacheProperties(), new SimpleMeterRegistry());
+        principalService = new PrincipalService(userRepository, principalCache);
+        user = User.builder()
+                .id(UUID.fromString("69197359-4961-446d-9fc7-b5487cb5c6b3"))
+                .email(EMAIL)
+                .build();
+    }
+
+    @Test
+    void loadCachedUserByEmailQueriesOnlyOnce() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(EMAIL, principalService.loadCachedUserByEmail(EMAIL).getEmail());
+        }
+
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void loadCachedUserByEmailAfterAccessChanged() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        principalService.loadCachedUserByEmail(EMAIL);
+        principalCache.onUserAccessChanged(UserAccessChangedEvent.builder()
+                .userId(user.getId())
+                .email(EMAIL)
+                .build());
+        principalService.loadCachedUserByEmail(EMAIL);
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void loadCachedUserByEmailMissing() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThrows(EmailNotFoundException.class, () -> principalService.loadCachedUserByEmail(EMAIL));
+        assertThrows(EmailNotFoundException.class, () -> principalService.loadCachedUserByEmail(EMAIL));
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void loadCachedUserByEmailReturnsCopies() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        Principal principal = principalService.loadCachedUserByEmail(EMAIL);
+
+        assertNotSame(user, principal.getUser());
+        assertNotSame(principal.getUser(), principalService.loadCachedUserByEmail(EMAIL).getUser());
+        assertEquals(user.getId(), principal.getUser().getId());
+    }
+
+    @Test
+    void loadUserByUsernameBypassesCache() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        principalService.loadCachedUserByEmail(EMAIL);
+        principalService.loadUserByUsername(EMAIL);
+        principalService.loadUserByUsername(EMAIL);
+
+        verify(userRepository, times(3)).findByEmail(EMAIL);
+    }
+}
@@ -0,0 +1,73 @@
+package de.x1c1b.attoly.api.security;
+
+import de.x1c1b.attoly.api.domain.model.Role;
+import de.x1c1b.attoly.api.domain.model.RoleName;
+import de.x1c1b.attoly.api.domain.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.expression.SecurityExpressionRoot;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalTest {
+
+    @Test
+    void getAuthoritiesIsComputedOnce() {
+        Principal principal = createPrincipal("max.mustermann@localhost.com", RoleName.ROLE_ADMIN, RoleName.ROLE_USER);
+
+        assertSame(principal.getAuthorities(), principal.getAuthorities());
+        assertEquals(Set.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER")),
+                principal.getAuthorities());
+    }
+
+    @Test
+    void getAuthoritiesIsSharedByRoleCombination() {
+        Principal max = createPrincipal("max.mustermann@localhost.com", RoleName.ROLE_MODERATOR, RoleName.ROLE_USER);
+        Principal erika = createPrincipal("erika.musterfrau@localhost.com", RoleName.ROLE_USER, RoleName.ROLE_MODERATOR);
+        Principal jane = createPrincipal("jane.doe@localhost.com", RoleName.ROLE_USER);
+
+        assertSame(max.getAuthorities(), erika.getAuthorities());
+        assertNotSame(max.getAuthorities(), jane.getAuthorities());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAuthoritiesIsImmutable() {
+        Principal principal = createPrincipal("max.mustermann@localhost.com", RoleName.ROLE_USER);
+        Collection<GrantedAuthority> authorities = (Collection<GrantedAuthority>) principal.getAuthorities();
+
+        assertThrows(UnsupportedOperationException.class, () -> authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN")));
+    }
+
+    @Test
+    void hasAnyRole() {
+        Principal moderator = createPrincipal("max.mustermann@localhost.com", RoleName.ROLE_MODERATOR);
+        Principal user = createPrincipal("jane.doe@localhost.com", RoleName.ROLE_USER);
+
+        assertTrue(createExpressionRoot(moderator).hasAnyRole("ADMIN", "MODERATOR"));
+        assertFalse(createExpressionRoot(user).hasAnyRole("ADMIN", "MODERATOR"));
+    }
+
+    private SecurityExpressionRoot createExpressionRoot(Principal principal) {
+        return new SecurityExpressionRoot(new TestingAuthenticationToken(principal, null, principal.getAuthorities().stream()
+                .map(GrantedAuthority.class::cast)
+                .toList())) {
+        };
+    }
+
+    private Principal createPrincipal(String email, RoleName... roles) {
+        return new Principal(User.builder()
+                .email(email)
+                .roles(Arrays.stream(roles)
+                        .map(name -> Role.builder().name(name).build())
+                        .collect(Collectors.toSet()))
+                .build());
+    }
+}
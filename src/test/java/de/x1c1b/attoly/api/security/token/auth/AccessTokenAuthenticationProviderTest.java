@@ -0,0 +1,104 @@
+package de.x1c1b.attoly.api.security.token.auth;
+
+import de.x1c1b.attoly.api.domain.model.RoleName;
+import de.x1c1b.attoly.api.domain.model.User;
+import de.x1c1b.attoly.api.security.Principal;
+import de.x1c1b.attoly.api.security.token.AccessToken;
+import de.x1c1b.attoly.api.security.token.InvalidTokenException;
+import de.x1c1b.attoly.api.security.token.TokenProvider;
+import de.x1c1b.attoly.api.security.token.jwt.AccessTokenRevocationStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenAuthenticationProviderTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private TokenProvider<AccessToken> accessTokenProvider;
+
+    @Mock
+    private AccessTokenRevocationStore accessTokenRevocationStore;
+
+    private AccessTokenAuthenticationProvider authenticationProvider;
+    private AccessToken accessToken;
+
+    @BeforeEach
+    void setUp() {
+        authenticationProvider = new AccessTokenAuthenticationProvider();
+        authenticationProvider.setUserDetailsService(userDetailsService);
+        authenticationProvider.setAccessTokenProvider(accessTokenProvider);
+        authenticationProvider.setAccessTokenRevocationStore(accessTokenRevocationStore);
+        authenticationProvider.setStateless(true);
+
+        accessToken = AccessToken.builder()
+                .rawToken("abc")
+                .principal("max.mustermann@localhost.com")
+                .issuedAt(Instant.now())
+                .userId(UUID.fromString("69197359-4961-446d-9fc7-b5487cb5c6b3"))
+                .emailVerified(true)
+                .roles(Set.of(RoleName.ROLE_USER))
+                .build();
+
+        when(accessTokenProvider.validateToken("abc")).thenReturn(accessToken);
+    }
+
+    @Test
+    void authenticateFromClaims() {
+        Authentication authentication = authenticationProvider.authenticate(new AccessTokenAuthenticationToken("abc"));
+        Principal principal = (Principal) authentication.getPrincipal();
+
+        assertEquals(accessToken.getUserId(), principal.getUser().getId());
+        assertEquals("max.mustermann@localhost.com", principal.getEmail());
+        assertTrue(authentication.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_USER")));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void authenticateRevoked() {
+        when(accessTokenRevocationStore.isRevoked(any(), any())).thenReturn(true);
+
+        assertThrows(InvalidTokenException.class, () -> authenticationProvider.authenticate(new AccessTokenAuthenticationToken("abc")));
+    }
+
+    @Test
+    void authenticateFromDatabaseIfRevocationUnavailable() {
+        User user = User.builder()
+                .id(accessToken.getUserId())
+                .email("max.mustermann@localhost.com")
+                .build();
+
+        when(accessTokenRevocationStore.isRevoked(any(), any())).thenThrow(new RedisConnectionFailureException("Unavailable"));
+        when(userDetailsService.loadUserByUsername("max.mustermann@localhost.com")).thenReturn(new Principal(user));
+
+        Authentication authentication = authenticationProvider.authenticate(new AccessTokenAuthenticationToken("abc"));
+
+        assertEquals(user.getId(), ((Principal) authentication.getPrincipal()).getUser().getId());
+        verify(userDetailsService).loadUserByUsername("max.mustermann@localhost.com");
+    }
+
+    @Test
+    void authenticateLocked() {
+        accessToken.setLocked(true);
+
+        assertThrows(LockedException.class, () -> authenticationProvider.authenticate(new AccessTokenAuthenticationToken("abc")));
+    }
+}
@@ -0,0 +1,52 @@
+package de.x1c1b.attoly.api.security.token.jwt;
+
+import de.x1c1b.attoly.api.domain.event.UserAccessChangedEvent;
+import de.x1c1b.attoly.api.security.token.TokenProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AccessTokenRevocationStoreTest {
+
+    private static final UUID USER_ID = UUID.fromString("69197359-4961-446d-9fc7-b5487cb5c6b3");
+
+    private ValueOperations<String, Object> valueOperations;
+    private AccessTokenRevocationStore revocationStore;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        revocationStore = new AccessTokenRevocationStore(new TokenProperties(), redisTemplate);
+    }
+
+    @Test
+    void isRevokedWithMillisecondPrecision() {
+        Instant revokedAt = Instant.parse("2022-01-01T12:00:00.500Z");
+        when(valueOperations.get(AccessTokenRevocationStore.KEY_PREFIX + USER_ID)).thenReturn(String.valueOf(revokedAt.toEpochMilli()));
+
+        assertTrue(revocationStore.isRevoked(USER_ID, revokedAt.minusMillis(1)));
+        assertFalse(revocationStore.isRevoked(USER_ID, revokedAt));
+        assertFalse(revocationStore.isRevoked(USER_ID, revokedAt.plusMillis(1)));
+    }
+
+    @Test
+    void onUserAccessChangedIgnoresUnavailableRedis() {
+        doThrow(new RedisConnectionFailureException("Unavailable"))
+                .when(valueOperations).set(anyString(), any(), anyLong(), any());
+
+        assertDoesNotThrow(() -> revocationStore.onUserAccessChanged(new UserAccessChangedEvent(USER_ID, "max.mustermann@localhost.com")));
+    }
+}
@@ -0,0 +1,157 @@
+package de.x1c1b.attoly.api.security.token.jwt;
+
+import de.x1c1b.attoly.api.domain.model.Role;
+import de.x1c1b.attoly.api.domain.model.RoleName;
+import de.x1c1b.attoly.api.domain.model.User;
+import de.x1c1b.attoly.api.security.Principal;
+import de.x1c1b.attoly.api.security.token.AccessToken;
+import de.x1c1b.attoly.api.security.token.InvalidTokenException;
+import de.x1c1b.attoly.api.security.token.TokenProperties;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String FORMER_SECRET = "Zm9ybWVyLXNlY3JldC1vZi10aGUtYWNjZXNzLXRva2Vucw==";
+    private static final String CURRENT_SECRET = "Y3VycmVudC1zZWNyZXQtb2YtdGhlLWFjY2Vzcy10b2tlbnM=";
+
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .id(UUID.fromString("69197359-4961-446d-9fc7-b5487cb5c6b3"))
+                .email("max.mustermann@localhost.com")
+                .emailVerified(true)
+                .roles(Set.of(Role.builder().name(RoleName.ROLE_USER).build()))
+                .build();
+
+        authentication = new TestingAuthenticationToken(new Principal(user), null);
+    }
+
+    @Test
+    void validateToken() {
+        JwtTokenProvider tokenProvider = createTokenProvider("current", CURRENT_SECRET, Map.of());
+
+        Instant before = Instant.now();
+        AccessToken accessToken = tokenProvider.validateToken(tokenProvider.generateToken(authentication).getRawToken());
+        Instant after = Instant.now();
+
+        assertEquals("max.mustermann@localhost.com", accessToken.getPrincipal());
+        assertEquals(UUID.fromString("69197359-4961-446d-9fc7-b5487cb5c6b3"), accessToken.getUserId());
+        assertEquals(Set.of(RoleName.ROLE_USER), accessToken.getRoles());
+        assertTrue(accessToken.isEmailVerified());
+        assertFalse(accessToken.getIssuedAt().isBefore(before.truncatedTo(ChronoUnit.MILLIS)));
+        assertFalse(accessToken.getIssuedAt().isAfter(after));
+    }
+
+    @Test
+    void validateTokenAfterRotation() {
+        JwtTokenProvider formerTokenProvider = createTokenProvider("former", FORMER_SECRET, Map.of());
+        JwtTokenProvider tokenProvider = createTokenProvider("current", CURRENT_SECRET, Map.of("former", FORMER_SECRET));
+
+        String rawToken = formerTokenProvider.generateToken(authentication).getRawToken();
+
+        assertEquals("max.mustermann@localhost.com", tokenProvider.validateToken(rawToken).getPrincipal());
+    }
+
+    @Test
+    void validateTokenWithRetiredKey() {
+        JwtTokenProvider formerTokenProvider = createTokenProvider("former", FORMER_SECRET, Map.of());
+        JwtTokenProvider tokenProvider = createTokenProvider("current", CURRENT_SECRET, Map.of());
+
+        String rawToken = formerTokenProvider.generateToken(authentication).getRawToken();
+
+        assertThrows(InvalidTokenException.class, () -> tokenProvider.validateToken(rawToken));
+    }
+
+    @Test
+    void validateTokenWithoutKeyId() {
+        JwtTokenProvider formerTokenProvider = createTokenProvider(null, CURRENT_SECRET, Map.of());
+        JwtTokenProvider tokenProvider = createTokenProvider("current", CURRENT_SECRET, Map.of());
+
+        String rawToken = formerTokenProvider.generateToken(authentication).getRawToken();
+
+        assertEquals("max.mustermann@localhost.com", tokenProvider.validateToken(rawToken).getPrincipal());
+    }
+
+    @Test
+    void validateTokenWithoutIssueDate() {
+        JwtTokenProvider tokenProvider = createTokenProvider("current", CURRENT_SECRET, Map.of());
+
+        String rawToken = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, "current")
+                .setSubject("max.mustermann@localhost.com")
+                .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+                .signWith(SignatureAlgorithm.HS256, TextCodec.BASE64.decode(CURRENT_SECRET))
+                .compact();
+
+        assertThrows(InvalidTokenException.class, () -> tokenProvider.validateToken(rawToken));
+    }
+
+    @Test
+    void validateTokenSignedAsymmetrically() throws Exception {
+        KeyPair keyPair = createKeyPair();
+        JwtTokenProvider tokenProvider = createTokenProvider("current", keyPair);
+
+        AccessToken accessToken = tokenProvider.validateToken(tokenProvider.generateToken(authentication).getRawToken());
+
+        assertEquals("max.mustermann@localhost.com", accessToken.getPrincipal());
+        assertEquals(Map.of("current", keyPair.getPublic()), tokenProvider.getPublicKeys());
+    }
+
+    @Test
+    void validateTokenWithUnexpectedAlgorithm() throws Exception {
+        JwtTokenProvider symmetricTokenProvider = createTokenProvider("current", CURRENT_SECRET, Map.of());
+        JwtTokenProvider tokenProvider = createTokenProvider("current", createKeyPair());
+
+        String rawToken = symmetricTokenProvider.generateToken(authentication).getRawToken();
+
+        assertThrows(InvalidTokenException.class, () -> tokenProvider.validateToken(rawToken));
+    }
+
+    private KeyPair createKeyPair() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+
+        return keyPairGenerator.generateKeyPair();
+    }
+
+    private JwtTokenProvider createTokenProvider(String keyId, KeyPair keyPair) {
+        TokenProperties tokenProperties = new TokenProperties();
+        tokenProperties.getAccess().setAlgorithm(SignatureAlgorithm.ES256);
+        tokenProperties.getAccess().setKeyId(keyId);
+        tokenProperties.getAccess().setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        tokenProperties.getAccess().setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+
+        return new JwtTokenProvider(tokenProperties);
+    }
+
+    private JwtTokenProvider createTokenProvider(String keyId, String secret, Map<String, String> verificationKeys) {
+        TokenProperties tokenProperties = new TokenProperties();
+        tokenProperties.getAccess().setKeyId(keyId);
+        tokenProperties.getAccess().setSecret(secret);
+        tokenProperties.getAccess().setVerificationKeys(verificationKeys);
+
+        return new JwtTokenProvider(tokenProperties);
+    }
+}
@@ -0,0 +1,58 @@
+package de.x1c1b.attoly.api.web;
+
+import de.x1c1b.attoly.api.security.token.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwksControllerTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findAll() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        ECPublicKey publicKey = (ECPublicKey) keyPairGenerator.generateKeyPair().getPublic();
+
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        when(jwtTokenProvider.getPublicKeys()).thenReturn(Map.of("current", publicKey));
+
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) new JwksController(jwtTokenProvider).findAll()
+                .getBody()
+                .get("keys");
+
+        assertEquals(1, keys.size());
+        assertEquals("current", keys.get(0).get("kid"));
+        assertEquals("ES256", keys.get(0).get("alg"));
+        assertEquals("P-256", keys.get(0).get("crv"));
+        assertEquals(publicKey.getW().getAffineX(), decodeCoordinate(keys.get(0).get("x")));
+        assertEquals(publicKey.getW().getAffineY(), decodeCoordinate(keys.get(0).get("y")));
+    }
+
+    @Test
+    void findAllSymmetric() {
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        when(jwtTokenProvider.getPublicKeys()).thenReturn(Map.of());
+
+        assertTrue(((List<?>) new JwksController(jwtTokenProvider).findAll().getBody().get("keys")).isEmpty());
+    }
+
+    private BigInteger decodeCoordinate(Object coordinate) {
+        byte[] bytes = Base64.getUrlDecoder().decode(coordinate.toString());
+
+        assertEquals(32, bytes.length);
+
+        return new BigInteger(1, bytes);
+    }
+}
@@ -0,0 +1,152 @@
+package de.x1c1b.attoly.api.web.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.x1c1b.attoly.api.domain.ShortcutService;
+import de.x1c1b.attoly.api.domain.model.Shortcut;
+import de.x1c1b.attoly.api.domain.model.ShortcutView;
+import de.x1c1b.attoly.api.domain.model.User;
+import de.x1c1b.attoly.api.domain.payload.ShortcutCreationPayload;
+import de.x1c1b.attoly.api.security.Principal;
+import de.x1c1b.attoly.api.web.v1.dto.ShortcutCreationDto;
+import de.x1c1b.attoly.api.web.v1.dto.ShortcutImportErrorDto;
+import de.x1c1b.attoly.api.web.v1.dto.ShortcutImportResultDto;
+import de.x1c1b.attoly.api.web.v1.dto.mapper.CursorMapper;
+import de.x1c1b.attoly.api.web.v1.dto.mapper.ShortcutMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.validation.beanvalidation.MethodValidationInterceptor;
+
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ShortcutControllerTest {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    private ShortcutService shortcutService;
+    private ShortcutController shortcutController;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+
+        shortcutService = mock(ShortcutService.class);
+        when(shortcutService.createAll(anyList())).thenAnswer(invocation -> {
+            List<Shortcut> shortcuts = new ArrayList<>();
+            ((List<ShortcutCreationPayload>) invocation.getArgument(0)).forEach(payload -> shortcuts.add(new Shortcut()));
+            return shortcuts;
+        });
+
+        shortcutController = new ShortcutController(shortcutService,
+                Mappers.getMapper(ShortcutMapper.class),
+                new CursorMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(),
+                messageSource,
+                2,
+                1000,
+                100);
+    }
+
+    @Test
+    void createAllRejectsOversizedBatch() {
+        ProxyFactory proxyFactory = new ProxyFactory(shortcutController);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new MethodValidationInterceptor());
+        ShortcutController proxy = (ShortcutController) proxyFactory.getProxy();
+
+        List<ShortcutCreationDto> dtos = Collections.nCopies(ShortcutController.MAXIMUM_BATCH_SIZE + 1,
+                new ShortcutCreationDto("https://www.google.com"));
+
+        assertThrows(ConstraintViolationException.class, () -> proxy.createAll(dtos));
+        verifyNoInteractions(shortcutService);
+    }
+
+    @Test
+    void importAllSkipsCsvHeader() throws Exception {
+        ShortcutImportResultDto result = importAll(CSV, "\uFEFF \"URL\" ,comment\r\nhttps://www.google.com\r\n");
+
+        assertEquals(1, result.getProcessed());
+        assertEquals(1, result.getCreated());
+        assertEquals(0, result.getFailed());
+    }
+
+    @Test
+    void importAllFailsTooLongLine() throws Exception {
+        ShortcutImportResultDto result = importAll(CSV, "https://www.google.com/" + "a".repeat(200) + "\nhttps://www.google.com\n");
+
+        assertEquals(2, result.getProcessed());
+        assertEquals(1, result.getCreated());
+        assertEquals(List.of(1L), result.getErrors().stream().map(ShortcutImportErrorDto::getLine).toList());
+        assertEquals("ImportLineTooLongError.message", result.getErrors().get(0).getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void importAllReportsFailedChunk() throws Exception {
+        when(shortcutService.createAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate tag"))
+                .thenAnswer(invocation -> List.of(new Shortcut()));
+
+        ShortcutImportResultDto result = importAll(MediaType.parseMediaType("application/x-ndjson"), """
+                {"url": "https://www.google.com"}
+                {"url": "https://www.google.de"}
+                {"url": "https://www.google.fr"}
+                """);
+
+        assertEquals(3, result.getProcessed());
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(1L, 2L), result.getErrors().stream().map(ShortcutImportErrorDto::getLine).toList());
+        assertEquals("ImportChunkFailedError.message", result.getErrors().get(0).getErrors().get(0).getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportCurrentUserEscapesFormulas() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<ShortcutView> consumer = invocation.getArgument(1);
+            consumer.accept(new ShortcutView(UUID.fromString("69197359-4961-446d-9fc7-b5487cb5c6b3"), "-abc123",
+                    "=HYPERLINK(\"https://www.google.com\")", Instant.parse("2022-11-01T10:15:30Z"), false));
+            return null;
+        }).when(shortcutService).exportAllByOwnership(eq("max.mustermann@localhost.com"), any(Consumer.class));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Principal principal = new Principal(User.builder().email("max.mustermann@localhost.com").build());
+
+        shortcutController.exportCurrentUser(principal, CSV.toString(), response);
+
+        String line = response.getContentAsString().lines().skip(1).findFirst().orElseThrow();
+
+        // The creation date depends on the time zone and is not of interest here
+        assertTrue(line.startsWith("69197359-4961-446d-9fc7-b5487cb5c6b3,\"'-abc123\"," +
+                "\"'=HYPERLINK(\"\"https://www.google.com\"\")\","), line);
+    }
+
+    private ShortcutImportResultDto importAll(MediaType contentType, String body) throws Exception {
+        return shortcutController.importAll(contentType, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}